@@ -9,4 +9,18 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.SOURCE)
 public @interface Attribute {
 	public boolean staticField() default true;
+
+	/**
+	 * When true, int, long, double and boolean attributes are instances of a generated member class with unboxed
+	 * accessors next to {@code getValue}/{@code setValue}, e.g. {@code getInt}/{@code setInt}. The attribute field has
+	 * the type of that class, so code using the field directly avoids the boxing.
+	 */
+	public boolean specializePrimitives() default false;
+
+	/**
+	 * When true, the setter sets a bit of a dirty mask on the host object, which can be queried by the generated
+	 * {@code isDirty(Attribute)} and {@code dirtyAttributes()} methods and reset by {@code clearDirty()}.
+	 * The type may not declare these methods itself.
+	 */
+	public boolean trackDirty() default false;
 }
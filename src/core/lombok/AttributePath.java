@@ -0,0 +1,45 @@
+package lombok;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compiles a path of nested properties into a static accessor.
+ * <p>
+ * Put it on a static getter stub that takes the root object, e.g.
+ * 
+ * <pre>
+ * &#64;AttributePath(value = "customer.address.city", via = {Customer.class, Address.class})
+ * public static String getCustomerCity(Order order) {
+ * 	return null;
+ * }
+ * </pre>
+ * 
+ * The body is replaced by direct getter calls that return {@code null} as soon as a step is {@code null}. A matching
+ * static setter {@code setCustomerCity(Order, String)} is generated if missing, which does nothing when an intermediate
+ * step is {@code null}, and a static {@code Attribute<Order, String> _customerCity} delegating to both.
+ * <p>
+ * Every property along the path, the last one included, is read with its {@code get} getter, as the value type is
+ * always a reference type.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface AttributePath {
+	/**
+	 * The dot separated property names, starting at the argument of the annotated method.
+	 */
+	String value();
+
+	/**
+	 * The types of the intermediate values along the path, one less than the number of properties.
+	 */
+	Class<?>[] via() default {};
+
+	/**
+	 * Set this to true if the last property has no setter. No static setter is generated then, and {@code setValue} of the
+	 * attribute throws an {@code UnsupportedOperationException}.
+	 */
+	boolean readOnly() default false;
+}
@@ -0,0 +1,25 @@
+package lombok;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a static table of the attributes declared with {@link Attribute} and {@link ObservableAttribute}
+ * in the annotated type, so they can be iterated and looked up by name without reflection.
+ * <p>
+ * The attributes are ordered by declaration, the ones declared on fields first, then the ones declared on getters.
+ * The generated methods are {@code attributeCount()}, {@code attributeAt(int)}, {@code attributeIndex(String)}
+ * (returns -1 for unknown names) and {@code attribute(String)} (returns null for unknown names). The registry is not
+ * generated if the type already has a method of one of these names.
+ * <p>
+ * It also generates {@code copyAttributes(from, to)}, which copies every attribute without reflection, and
+ * {@code copyAttributes(from, to, mask)}, which copies the attributes whose index bit is set in {@code mask}
+ * (only for types with at most 64 attributes). Observable and dirty-tracked attributes are copied through their
+ * setter, the others by direct field assignment. Attributes on final fields are not copied.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface AttributeRegistry {
+}
@@ -77,4 +77,48 @@ public @interface BoundSetter {
 	 * 
 	 */
 	boolean throwVetoException() default false;
+
+	/**
+	 * Selects what notifies the {@code PropertyChangeListener}s. Vetoable changes always use
+	 * {@link java.beans.VetoableChangeSupport}.
+	 */
+	Dispatcher dispatcher() default Dispatcher.PROPERTY_CHANGE_SUPPORT;
+
+	/**
+	 * When not {@link Coalescing#NONE NONE}, {@code beginUpdate()} and {@code endUpdate()} are generated, and the setter
+	 * does not fire while an update is running. The events are fired by the outermost {@code endUpdate()} instead. The
+	 * pair is meant for the thread that does the updates, setters without coalescing keep firing right away. The type may
+	 * not declare {@code beginUpdate()} or {@code endUpdate()} itself. If a listener throws, the other recorded changes
+	 * are still fired and the first exception is rethrown.
+	 */
+	Coalescing coalesce() default Coalescing.NONE;
+
+	/**
+	 * When true, array and {@code List} fields also get an indexed setter {@code setX(int, E)}, and {@code List} fields
+	 * get {@code addToX(E)} and {@code removeFromX(int)}. These change a single element and fire an
+	 * {@link java.beans.IndexedPropertyChangeEvent} through {@code fireIndexedPropertyChange(String, int, Object, Object)},
+	 * an added element having {@code null} as old and a removed one {@code null} as new value. While a coalesced update
+	 * is running, an element change is recorded as a change of the whole property to the current array or list. Only
+	 * fields declared as {@code List} or {@code java.util.List} count as lists. Indexed properties can't be vetoable.
+	 */
+	boolean indexed() default false;
+
+	public enum Dispatcher {
+		/** Delegates to a lazily created {@link java.beans.PropertyChangeSupport}. */
+		PROPERTY_CHANGE_SUPPORT,
+		/**
+		 * Generates a lock-free listener array. Firing returns right away when nobody listens and only creates the
+		 * {@code PropertyChangeEvent} when a listener of the property was found.
+		 */
+		LIGHTWEIGHT;
+	}
+
+	public enum Coalescing {
+		/** Every change is fired right away. */
+		NONE,
+		/** One event per changed property, with the first old and the last new value. */
+		PER_PROPERTY,
+		/** A single event with {@code null} as property name and values, like a JavaBean does when many properties changed. */
+		AGGREGATE;
+	}
 }
@@ -25,6 +25,7 @@ import static java.lang.annotation.ElementType.*;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
 
 import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Does pretty much the same as {@link Getter @Getter(lazy=true)}.
@@ -36,4 +37,98 @@ public @interface LazyGetter {
 	 * If you want your getter to be non-public, you can specify an alternate access level here.
 	 */
 	AccessLevel value() default AccessLevel.PUBLIC;
+
+	/**
+	 * Selects how the initialized value is published to other threads. Only {@link Publication#FLAG FLAG} supports
+	 * primitive fields and initializers that may return {@code null}. Static fields support {@link Publication#FLAG FLAG},
+	 * which locks the class object, and {@link Publication#HOLDER HOLDER}.
+	 */
+	Publication publication() default Publication.FLAG;
+
+	/**
+	 * When positive, the value expires this long after it was computed, and is computed again by the next call of the
+	 * getter. Only for instance fields with {@link Publication#FLAG FLAG} publication.
+	 */
+	long expireAfter() default 0;
+
+	/**
+	 * Unit of {@link #expireAfter()}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * Name of a field holding the {@code java.util.concurrent.Executor} that computes an expired value again. When set,
+	 * the getter returns the expired value right away while a single task of the executor computes the new one, so
+	 * only the first call waits for the initializer. Default is {@code ""}, an expired value is computed again on the
+	 * calling thread.
+	 */
+	String refreshExecutor() default "";
+
+	/**
+	 * When not {@link Strength#STRONG STRONG}, the field is replaced by a soft or weak reference to the value, and a
+	 * value that the garbage collector cleared is computed again on the next call. The initializer still runs once at a
+	 * time, under the monitor of the instance. Only for instance fields of reference type with
+	 * {@link Publication#FLAG FLAG} publication and no expiry, and an initializer that never returns {@code null}. As
+	 * the field itself is gone, other code, including the type itself, has to read the value through the getter.
+	 */
+	Strength strength() default Strength.STRONG;
+
+	/**
+	 * When true, an {@code invalidateXyz()} method is generated that drops the value, so the next call of the getter
+	 * computes it again. Where the initializer runs under the monitor of the instance it waits for a running
+	 * initialization, and the value of a refresh that is still running on the {@link #refreshExecutor()} is discarded.
+	 * With {@link Publication#COMPARE_AND_SET COMPARE_AND_SET} it does not wait, so a value computed by a getter call that
+	 * started before may still be published afterwards. Only for instance fields.
+	 */
+	boolean invalidate() default false;
+
+	/**
+	 * When true, an {@code isXyzComputed()} method is generated that tells whether the getter would return the value
+	 * without computing it. A value past its {@link #expireAfter()} counts as not computed. Only for instance fields.
+	 */
+	boolean computedCheck() default false;
+
+	/**
+	 * When true, the getter is called by the generated {@code warmUpLazyFields(Executor)}, or by
+	 * {@code warmUpStaticLazyFields(Executor)} for a static field. These run the getters of all lazy fields of the type
+	 * with this option as concurrent tasks of the executor, {@code ForkJoinPool.commonPool()} for instance, and return
+	 * once all of them are done. The first failure that happens is rethrown as {@code ExecutionException}, and the tasks
+	 * that did not finish yet are cancelled then, just like when the calling thread is interrupted. The initializers that
+	 * run under the monitor of the instance still run one at a time.
+	 */
+	boolean warmUp() default false;
+
+	public enum Publication {
+		/**
+		 * A {@code volatile boolean} next to the field tells whether it is initialized, the initializer runs once under
+		 * the monitor of the instance.
+		 */
+		FLAG,
+		/**
+		 * The field is made {@code volatile} and {@code null} tells that it is not initialized yet, so no other field is
+		 * needed. The initializer runs once under the monitor of the instance, which all lazy fields of the instance share.
+		 */
+		SYNCHRONIZED,
+		/**
+		 * Like {@link #SYNCHRONIZED}, but without a lock: threads that race for the first access may each run the
+		 * initializer, and the first value published by compare-and-set is returned to all of them. Only for idempotent
+		 * initializers.
+		 */
+		COMPARE_AND_SET,
+		/**
+		 * Only for static fields: the field is moved into a nested holder class that is initialized on the first call
+		 * of the getter, so the class initialization does the locking and later calls need neither flag nor lock. The
+		 * field itself is gone, other code, including the type itself, has to read the value through the getter.
+		 */
+		HOLDER;
+	}
+
+	public enum Strength {
+		/** The value is kept as long as the instance. */
+		STRONG,
+		/** The value is kept in a {@link java.lang.ref.SoftReference}, cleared when memory gets low. */
+		SOFT,
+		/** The value is kept in a {@link java.lang.ref.WeakReference}, cleared once nothing else uses it. */
+		WEAK;
+	}
 }
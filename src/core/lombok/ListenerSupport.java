@@ -37,4 +37,41 @@ public @interface ListenerSupport {
 
 	/** List of the listeners you want to support. */
 	Class<?>[] value();
+
+	/**
+	 * When true, the listeners are only weakly referenced, so forgetting to remove one does not keep it alive. Cleared
+	 * references are purged by the next add or remove, or after a fire method came across one.
+	 */
+	boolean weak() default false;
+
+	/**
+	 * Name of a field holding the {@code java.util.concurrent.Executor} that delivers the events. When set, the
+	 * {@code fireXyz} methods only put the event into a bounded queue of the object, which is drained by one task at a
+	 * time, so the listeners see the events of an object in order. When the executor rejects the task, the publisher gets
+	 * the {@code RejectedExecutionException}, the event stays queued and the next event schedules a task again. Default
+	 * is {@code ""}, the events are delivered on the calling thread.
+	 */
+	String asyncExecutor() default "";
+
+	/**
+	 * Capacity of the event queue of an asynchronous listener support. A publisher that finds the queue full waits for
+	 * free space.
+	 */
+	int queueCapacity() default 1024;
+
+	/**
+	 * Maximum number of queued events one task delivers before it hands the rest over to a new task of the executor.
+	 * Default is {@code 0}, a task delivers until the queue is empty.
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * When true, the {@code fireXyz} methods time every listener call and keep a latency histogram and a failure count
+	 * per listener class, available through the generated {@code listenerStatistics()} method. Its {@code long[]}
+	 * values hold 64 call counts, index {@code i} counting the calls that took at least {@code 2^(i-1)} but less than
+	 * {@code 2^i} nanoseconds, followed by the number of failed calls. A listener that throws a
+	 * {@code RuntimeException} no longer keeps the remaining listeners from being called, the first exception is
+	 * rethrown once all of them were notified.
+	 */
+	boolean instrument() default false;
 }
@@ -9,4 +9,70 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.SOURCE)
 public @interface ObservableAttribute {
 	public boolean staticField() default true;
+
+	/**
+	 * When true, int, long, double and boolean attributes are instances of a generated member class with unboxed
+	 * accessors next to {@code getValue}/{@code setValue}, e.g. {@code getInt}/{@code setInt}. The attribute field has
+	 * the type of that class, so code using the field directly avoids the boxing.
+	 */
+	public boolean specializePrimitives() default false;
+
+	/**
+	 * When true, the listener container of the attribute is only allocated by the first {@code addChangeListener} call,
+	 * and the setter does not notify anyone until then.
+	 */
+	public boolean lazyListeners() default false;
+
+	/**
+	 * Specifies how the setter decides that a write did not change the value, in which case the listeners are not notified.
+	 * Default is {@link ChangeCheck#NONE}, every write is propagated.
+	 */
+	public ChangeCheck changeCheck() default ChangeCheck.NONE;
+
+	/**
+	 * When true, the host type gets {@code beginChanges()} and {@code commitChanges()}. Between them the setter only
+	 * records that the attribute changed, and the outermost {@code commitChanges()} notifies the listeners once
+	 * with the final value. Batches are per object and may be nested. The type may not declare these methods itself.
+	 */
+	public boolean batchChanges() default false;
+
+	/**
+	 * When true, the setter sets a bit of a dirty mask on the host object, which can be queried by the generated
+	 * {@code isDirty(Attribute)} and {@code dirtyAttributes()} methods and reset by {@code clearDirty()}.
+	 * The type may not declare these methods itself.
+	 */
+	public boolean trackDirty() default false;
+
+	/**
+	 * Name of a field of the host type holding the {@code java.util.concurrent.Executor} that notifies the listeners.
+	 * When set, the setter only schedules the notification. Pending notifications of the same attribute are coalesced,
+	 * the listeners get the latest value, and the notifications of one object are dispatched by one task at a time.
+	 * If a listener throws, a new task is scheduled for the attributes that are still pending. Nothing is scheduled
+	 * while a type with {@code lazyListeners} has no listener. If the executor rejects the task, the setter rethrows the
+	 * {@code RejectedExecutionException} and the next change schedules the dispatch again. All asynchronous attributes of
+	 * a type must use the same executor. Default is {@code ""}, the setter notifies synchronously.
+	 */
+	public String asyncExecutor() default "";
+
+	/**
+	 * When true, {@code addChangeListener} only keeps a weak reference to the listener, so a listener that is never
+	 * unregistered does not keep its object graph alive. The registrations of collected listeners are removed the next time
+	 * a listener is added to an attribute of the type, never while the listeners are notified. Not supported by GWT.
+	 */
+	public boolean weakListeners() default false;
+
+	public static enum ChangeCheck {
+		/** Every write notifies the listeners. */
+		NONE,
+		/**
+		 * Writes of the same reference are skipped. Primitives are compared like their wrappers' {@code equals}, so
+		 * {@code 0.0} and {@code -0.0} differ and {@code NaN} equals {@code NaN}.
+		 */
+		IDENTITY,
+		/**
+		 * Like {@link #IDENTITY}, and an equal value of another reference is still assigned, but the listeners are not
+		 * notified about it.
+		 */
+		EQUALS;
+	}
 }
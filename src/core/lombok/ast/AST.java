@@ -201,6 +201,10 @@ public final class AST {
 		return new Unary("!", condition);
 	}
 
+	public static Unary Unary(final String operator, final Expression<?> expression) {
+		return new Unary(operator, expression);
+	}
+
 	public static NullLiteral Null() {
 		return new NullLiteral();
 	}
@@ -242,7 +242,13 @@ public final class ASTPrinter implements ASTVisitor<ASTPrinter.State, ASTPrinter
 		state.print(" {\n");
 		final State indentedState = state.indent();
 		if (node.implicitSuper()) {
-			indentedState.printIndent().print("super();\n");
+			indentedState.printIndent().print("super(");
+			for (int i = 0, iend = node.getSuperArgs().size() - 1; i <= iend; i++) {
+				indentedState.print(node.getSuperArgs().get(i), this);
+				if (i == iend) break;
+				indentedState.print(", ");
+			}
+			indentedState.print(");\n");
 		}
 		for (Statement<?> statement : node.getStatements()) {
 			indentedState.printIndent().print(statement, this).print(";\n");
@@ -21,7 +21,10 @@
  */
 package lombok.ast;
 
+import java.util.*;
+
 public class ConstructorDecl extends AbstractMethodDecl<ConstructorDecl> {
+	private final List<Expression<?>> superArgs = new ArrayList<Expression<?>>();
 	private boolean implicitSuper;
 
 	public ConstructorDecl(final String name) {
@@ -33,10 +36,23 @@ public class ConstructorDecl extends AbstractMethodDecl<ConstructorDecl> {
 		return this;
 	}
 
+	/**
+	 * Passes the argument to the super constructor, which is then called explicitly.
+	 */
+	public ConstructorDecl withSuperArgument(final Expression<?> argument) {
+		implicitSuper = true;
+		superArgs.add(child(argument));
+		return this;
+	}
+
 	public boolean implicitSuper() {
 		return implicitSuper;
 	}
 
+	public List<Expression<?>> getSuperArgs() {
+		return superArgs;
+	}
+
 	@Override
 	public <RETURN_TYPE, PARAMETER_TYPE> RETURN_TYPE accept(final ASTVisitor<RETURN_TYPE, PARAMETER_TYPE> v, final PARAMETER_TYPE p) {
 		return v.visitConstructorDecl(this, p);
@@ -71,6 +71,8 @@ public interface IField<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, LOMBOK_NODE_T
 
 	public List<TypeRef> typeArguments();
 
+	public TypeRef componentType();
+
 	public List<Annotation> annotations();
 
 	public List<Annotation> annotations(Pattern namePattern);
@@ -44,4 +44,6 @@ public interface IFieldEditor<AST_BASE_TYPE> {
 	public void makePublic();
 
 	public void makeNonFinal();
+
+	public void makeVolatile();
 }
@@ -23,7 +23,7 @@ package lombok.ast;
 
 import java.util.List;
 
-public interface ITypeEditor<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE, AST_TYPE_DECL_TYPE, AST_METHOD_DECL_TYPE> {
+public interface ITypeEditor<METHOD_TYPE extends IMethod<?, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>, AST_BASE_TYPE, AST_TYPE_DECL_TYPE, AST_METHOD_DECL_TYPE> {
 	public <T extends AST_BASE_TYPE> T build(Node<?> node);
 
 	public <T extends AST_BASE_TYPE> T build(Node<?> node, Class<T> extectedType);
@@ -46,6 +46,8 @@ public interface ITypeEditor<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_T
 
 	public void removeMethod(METHOD_TYPE method);
 
+	public void removeField(FIELD_TYPE field);
+
 	public void makeEnum();
 
 	public void makePrivate();
@@ -1,21 +1,35 @@
 package lombok.core.handlers;
 
+import static lombok.ast.AST.And;
 import static lombok.ast.AST.Annotation;
 import static lombok.ast.AST.Arg;
+import static lombok.ast.AST.Assign;
+import static lombok.ast.AST.Block;
 import static lombok.ast.AST.Call;
 import static lombok.ast.AST.ClassDecl;
+import static lombok.ast.AST.Equal;
 import static lombok.ast.AST.Field;
 import static lombok.ast.AST.FieldDecl;
+import static lombok.ast.AST.If;
+import static lombok.ast.AST.LocalDecl;
 import static lombok.ast.AST.MethodDecl;
 import static lombok.ast.AST.Name;
 import static lombok.ast.AST.New;
+import static lombok.ast.AST.NotEqual;
+import static lombok.ast.AST.Null;
+import static lombok.ast.AST.Or;
 import static lombok.ast.AST.Return;
 import static lombok.ast.AST.String;
+import static lombok.ast.AST.Synchronized;
 import static lombok.ast.AST.Type;
+import static lombok.ast.AST.Wildcard;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import lombok.ObservableAttribute;
 import lombok.RequiredArgsConstructor;
 import lombok.ast.AST;
 import lombok.ast.Block;
@@ -25,7 +39,9 @@ import lombok.ast.FieldDecl;
 import lombok.ast.IField;
 import lombok.ast.IMethod;
 import lombok.ast.IType;
+import lombok.ast.MethodDecl;
 import lombok.ast.TypeRef;
+import lombok.core.AnnotationValues;
 import lombok.core.DiagnosticsReceiver;
 
 import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
@@ -39,6 +55,30 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 	private final DiagnosticsReceiver diagnosticsReceiver;
 	private final boolean observable;
 	private final boolean staticField;
+	private final boolean specializePrimitives;
+	private final boolean lazyListeners;
+	private final ObservableAttribute.ChangeCheck changeCheck;
+	private final boolean batchChanges;
+	private final boolean trackDirty;
+	private final String asyncExecutor;
+	private final boolean weakListeners;
+	
+	private static final String BATCH_DEPTH_FIELD_NAME = "$changeDepth";
+	private static final String BEGIN_CHANGES_METHOD_NAME = "beginChanges";
+	private static final String COMMIT_CHANGES_METHOD_NAME = "commitChanges";
+	private static final String FLUSH_CHANGES_METHOD_NAME = "$flushChanges";
+	private static final String FLUSH_CHANGE_METHOD_SUFFIX = "$flushChange";
+	private static final String DIRTY_FIELD_PREFIX = "$dirty";
+	private static final String IS_DIRTY_METHOD_NAME = "isDirty";
+	private static final String DIRTY_ATTRIBUTES_METHOD_NAME = "dirtyAttributes";
+	private static final String CLEAR_DIRTY_METHOD_NAME = "clearDirty";
+	private static final String MARK_DIRTY_METHOD_SUFFIX = "$markDirty";
+	private static final int DIRTY_WORD_SIZE = 64;
+	private static final String DISPATCH_SCHEDULED_FIELD_NAME = "$dispatchScheduled";
+	private static final String SCHEDULE_DISPATCH_METHOD_NAME = "$scheduleDispatch";
+	private static final String DISPATCH_CHANGES_METHOD_NAME = "$dispatchChanges";
+	private static final String DISPATCH_CHANGE_METHOD_SUFFIX = "$dispatchChange";
+	private static final String WEAK_LISTENER_CLASS_NAME = "$WeakValueChangeListener";
 	
 	private static final Map<String,String> primitives;
 	
@@ -55,6 +95,16 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 		primitives.put("void", "Void");
 	}
 	
+	private static final Map<String,String> specializedPrimitives;
+	
+	static {
+		specializedPrimitives = new HashMap<String,String>(4);
+		specializedPrimitives.put("boolean", "Boolean");
+		specializedPrimitives.put("double", "Double");
+		specializedPrimitives.put("int", "Int");
+		specializedPrimitives.put("long", "Long");
+	}
+	
 	public void handle() {
 		
 		if( field != null ) {
@@ -84,16 +134,8 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 	}
 	
 	private void createAttribute(final TYPE_TYPE type, final METHOD_TYPE method) {
-		final String fieldName = method.name();
-		
-		String attributeName;
-		if( fieldName.substring(0, 3).equals("get")) {
-			attributeName = Character.toLowerCase(fieldName.charAt(3) ) + fieldName.substring(4);
-		}
-		else if (fieldName.substring(0, 2).equals("is")) {
-			attributeName = Character.toLowerCase(fieldName.charAt(2) ) + fieldName.substring(3);
-		}
-		else {
+		final String attributeName = attributeNameOf(method.name());
+		if (attributeName == null) {
 			diagnosticsReceiver.addError("Nem getter metóduson van.");
 			return;
 		}
@@ -111,6 +153,24 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 	}
 	
 	private void injectAttribute( final TYPE_TYPE type, final TypeRef valueTypeRef, String _attributeTypeName, final String attributeName, final Object wrappedJavacAttrType) {
+		if (observable && batchChanges && !type.hasField(BATCH_DEPTH_FIELD_NAME)
+				&& (type.hasMethod(BEGIN_CHANGES_METHOD_NAME) || type.hasMethod(COMMIT_CHANGES_METHOD_NAME))) {
+			diagnosticsReceiver.addError(String.format("Not generating %s and %s: A method with one of those names already exists.",
+					BEGIN_CHANGES_METHOD_NAME, COMMIT_CHANGES_METHOD_NAME));
+			return;
+		}
+		if (trackDirty && !type.hasField(DIRTY_FIELD_PREFIX + 0) && (type.hasMethod(IS_DIRTY_METHOD_NAME, anyAttributeTypeRef())
+				|| type.hasMethod(DIRTY_ATTRIBUTES_METHOD_NAME) || type.hasMethod(CLEAR_DIRTY_METHOD_NAME))) {
+			diagnosticsReceiver.addError(String.format("Not generating %s, %s and %s: A method with one of those names already exists.",
+					IS_DIRTY_METHOD_NAME, DIRTY_ATTRIBUTES_METHOD_NAME, CLEAR_DIRTY_METHOD_NAME));
+			return;
+		}
+		final String otherAsyncExecutor = (observable && (asyncExecutor.length() > 0)) ? otherAsyncExecutor(type) : null;
+		if (otherAsyncExecutor != null) {
+			diagnosticsReceiver.addError(String.format("The asynchronous attributes of a type share one dispatch task, so they must use the same asyncExecutor, found '%s' and '%s'.",
+					asyncExecutor, otherAsyncExecutor));
+			return;
+		}
 		final boolean isQualified = _attributeTypeName.contains(".");
 		_attributeTypeName = _attributeTypeName.replaceAll("<.*>", "");
 		String attributeTypeName = _attributeTypeName;
@@ -146,7 +206,12 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 		// adding typearguments to the class, eclipse indigo throws InvalidArgumentExceptions in dom.ASTNode.setSourceRange()
 		// TODO: leave setValue empty if there's no setter for that attribute
 		String valueTypeString = mappedValueTypeRef.toString().replaceAll("<.*>", "");
-		ClassDecl classDecl = ClassDecl("").makeAnonymous().makeLocal()
+		// specialized primitive attributes are member classes, so the type of the attribute field exposes their unboxed accessors
+		final String specializedName = specializePrimitives ? specializedPrimitives.get(_attributeTypeName) : null;
+		final String specializedClassName = "$" + attributeName.substring(0, 1).toUpperCase() + attributeName.substring(1) + "Attribute";
+		ClassDecl classDecl = ((specializedName == null) ? ClassDecl("").makeAnonymous().makeLocal() : ClassDecl(specializedClassName).makePublic().makeStatic().makeFinal()
+					.implementing(attributeTypeRef)
+					.withMethod(AST.ConstructorDecl(specializedClassName).makePrivate().withImplicitSuper()))
 				.withMethod(MethodDecl(mappedValueTypeRef, "getValue").makePublic().withAnnotation(Annotation(Type(Override.class)))
 						.withArgument(Arg(hostTypeRef, "instance"))
 						.withStatement(Return(AST.Cast(valueTypeRef, Call(Name("instance"), getterName))))
@@ -184,32 +249,97 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 					.withStatement(Return(AST.Null()))
 					);
 		}
+		if (specializedName != null) {
+			classDecl.withMethod(MethodDecl(Type(_attributeTypeName), "get" + specializedName).makePublic()
+						.withArgument(Arg(hostTypeRef, "instance"))
+						.withStatement(Return(Call(Name("instance"), getterName))))
+					.withMethod(MethodDecl(Type("void"), "set" + specializedName).makePublic()
+						.withArgument(Arg(hostTypeRef, "instance"))
+						.withArgument(Arg(Type(_attributeTypeName), "value"))
+						.withStatement(Call(Name("instance"), setterName).withArgument(Name("value"))));
+		}
 		// replace or insert the setter method
-		Block setterBody = AST.Block()
-				.withStatement(AST.Assign(Field(AST.This(), attributeName), Name(attributeName)));
+		Block setterBody = AST.Block();
+		final boolean checkEquals = observable && !primitives.containsKey(_attributeTypeName) && (changeCheck == ObservableAttribute.ChangeCheck.EQUALS);
+		if (observable && (changeCheck != ObservableAttribute.ChangeCheck.NONE)) {
+			// writing the same value again changes nothing, so the setter returns before the assignment
+			setterBody.withStatement(If(sameValue(_attributeTypeName, Field(AST.This(), attributeName), Name(attributeName))).Then(Return()));
+		}
+		if (checkEquals) {
+			// an equal value of another reference is still stored, only the listeners don't hear about it
+			setterBody.withStatement(LocalDecl(Type("boolean"), "$equal").makeFinal().withInitialization(And(NotEqual(Field(AST.This(), attributeName), Null()),
+					Call(Field(AST.This(), attributeName), "equals").withArgument(Name(attributeName)))));
+		}
+		setterBody.withStatement(AST.Assign(Field(AST.This(), attributeName), Name(attributeName)));
+		if (trackDirty) {
+			injectDirtyTracking(type, attributeName);
+			setterBody.withStatement(Call(AST.This(), "$" + attributeName + MARK_DIRTY_METHOD_SUFFIX));
+		}
+		if (checkEquals) {
+			setterBody.withStatement(If(Name("$equal")).Then(Return()));
+		}
 
 		if (observable) {
 			// TODO check if the container type is an interface - we cannot implement this stuff on interfaces
 			TypeRef attributeListenerTypeRef = Type("com.doctusoft.common.core.bean.internal.AttributeListeners").withTypeArgument(mappedValueTypeRef);
 			String listenerFieldName = "$" + attributeName + "$listeners";
-			type.editor().injectField(FieldDecl(attributeListenerTypeRef, listenerFieldName)
-						.makePrivate()
-						.withInitialization(New(attributeListenerTypeRef)));
-			classDecl.withMethod(MethodDecl(Type("com.doctusoft.common.core.bean.ListenerRegistration"), "addChangeListener")
+			MethodDecl addChangeListener = MethodDecl(Type("com.doctusoft.common.core.bean.ListenerRegistration"), "addChangeListener")
 						.makePublic().withAnnotation(Annotation(Type(Override.class)))
 						.withArgument(Arg(hostTypeRef, "object"))
-						.withArgument(Arg(Type("com.doctusoft.common.core.bean.ValueChangeListener").withTypeArgument(mappedValueTypeRef), "valueChangeListener"))
-						.withStatement(Return(
-									Call(Field(Name("object"), listenerFieldName), "addListener")
-										.withArgument(Name("valueChangeListener"))
-								)));
-			setterBody.withStatement(Call(Name(listenerFieldName), "fireListeners").withArgument(Name(attributeName)));
+						.withArgument(Arg(Type("com.doctusoft.common.core.bean.ValueChangeListener").withTypeArgument(mappedValueTypeRef), "valueChangeListener"));
+			if (lazyListeners) {
+				// the container is created by the first listener registration, double-checked on the host object, as the
+				// attribute may be shared by all instances
+				type.editor().injectField(FieldDecl(attributeListenerTypeRef, listenerFieldName)
+							.makePrivate().makeVolatile());
+				addChangeListener.withStatement(If(Equal(Field(Name("object"), listenerFieldName), Null())).Then(Block()
+							.withStatement(Synchronized(Name("object"))
+									.withStatement(If(Equal(Field(Name("object"), listenerFieldName), Null())).Then(Block()
+											.withStatement(Assign(Field(Name("object"), listenerFieldName), New(attributeListenerTypeRef))))))));
+			} else {
+				type.editor().injectField(FieldDecl(attributeListenerTypeRef, listenerFieldName)
+							.makePrivate()
+							.withInitialization(New(attributeListenerTypeRef)));
+			}
+			if (asyncExecutor.length() > 0) {
+				injectAsyncDispatch(type, attributeName, attributeListenerTypeRef, listenerFieldName);
+			}
+			if (batchChanges) {
+				// inside a batch the setter only flags the attribute, the listeners are notified by commitChanges()
+				final String changedFieldName = "$" + attributeName + "$changed";
+				type.editor().injectField(FieldDecl(Type("boolean"), changedFieldName).makePrivate());
+				setterBody.withStatement(If(AST.Binary(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), ">", AST.Number(0))).Then(Block()
+							.withStatement(Assign(Field(AST.This(), changedFieldName), AST.True()))
+							.withStatement(Return())));
+				type.editor().injectMethod(MethodDecl(Type("void"), "$" + attributeName + FLUSH_CHANGE_METHOD_SUFFIX).makePrivate()
+							.withStatement(If(Field(AST.This(), changedFieldName)).Then(notifyListeners(Block()
+									.withStatement(Assign(Field(AST.This(), changedFieldName), AST.False())),
+									attributeListenerTypeRef, listenerFieldName, attributeName, Field(AST.This(), attributeName)))));
+				injectBatchMethods(type);
+			}
+			notifyListeners(setterBody, attributeListenerTypeRef, listenerFieldName, attributeName, Name(attributeName));
+			if (weakListeners) {
+				injectWeakListenerType(type);
+				final TypeRef weakListenerTypeRef = Type(WEAK_LISTENER_CLASS_NAME).withTypeArgument(mappedValueTypeRef);
+				addChangeListener.withStatement(Call(Name(WEAK_LISTENER_CLASS_NAME), "purge"))
+						.withStatement(LocalDecl(weakListenerTypeRef, "$weak").makeFinal()
+							.withInitialization(New(weakListenerTypeRef).withArgument(Name("valueChangeListener"))))
+						.withStatement(Assign(Field(Name("$weak"), "registration"), Call(Field(Name("object"), listenerFieldName), "addListener")
+							.withArgument(Name("$weak"))))
+						.withStatement(Return(Field(Name("$weak"), "registration")));
+				classDecl.withMethod(addChangeListener);
+			} else {
+				classDecl.withMethod(addChangeListener.withStatement(Return(
+							Call(Field(Name("object"), listenerFieldName), "addListener")
+								.withArgument(Name("valueChangeListener"))
+						)));
+			}
 		}
 		// replace or insert the setter
 		boolean setterFound = false;
 		for (METHOD_TYPE method : type.methods()) {
 			if (setterName.equals(method.name())) {
-				if (observable) {
+				if (observable || trackDirty) {
 					method.editor().replaceBody(setterBody);	// replace the setter to an observing setter
 				}
 				setterFound = true;
@@ -235,19 +365,309 @@ public final class AttributeHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?
 		}
 		
 		
-		Expression<?> initialization = New(attributeTypeRef).withTypeDeclaration(classDecl);
-		FieldDecl attributeFieldDecl = FieldDecl(attributeTypeRef, "_" + attributeName)
-				.makeFinal().makePublic()
-				.withInitialization(initialization);
+		Expression<?> initialization;
+		FieldDecl attributeFieldDecl;
+		if (specializedName != null) {
+			type.editor().injectType(classDecl);
+			initialization = New(Type(specializedClassName));
+			attributeFieldDecl = FieldDecl(Type(specializedClassName), "_" + attributeName);
+		} else {
+			initialization = New(attributeTypeRef).withTypeDeclaration(classDecl);
+			attributeFieldDecl = FieldDecl(attributeTypeRef, "_" + attributeName);
+		}
+		attributeFieldDecl
+				.makeFinal().makePublic();
 		
 		if (staticField) {
-			attributeFieldDecl.makeStatic();
+			attributeFieldDecl.makeStatic().withInitialization(initialization);
+		} else {
+			// the attribute is stateless, so every instance refers to the same one instead of allocating its own
+			final String sharedFieldName = sharedAttributeFieldNameOf(attributeName);
+			if (specializedName != null) {
+				type.editor().injectField(FieldDecl(Type(specializedClassName), sharedFieldName)
+						.makePrivate().makeStatic().makeFinal()
+						.withInitialization(initialization));
+				attributeFieldDecl.withInitialization(Name(sharedFieldName));
+			} else {
+				// the value type may refer to type parameters of the host type, these are redeclared by a static factory method
+				final String factoryMethodName = "$" + attributeName + "$createAttribute";
+				type.editor().injectMethod(MethodDecl(attributeTypeRef, factoryMethodName).makePrivate().makeStatic()
+						.withTypeParameters(type.typeParameters())
+						.withStatement(Return(initialization)));
+				type.editor().injectField(FieldDecl(Type(attrFieldClassName).withTypeArgument(Wildcard()).withTypeArgument(Wildcard()), sharedFieldName)
+						.makePrivate().makeStatic().makeFinal()
+						.withInitialization(Call(factoryMethodName)));
+				attributeFieldDecl.withAnnotation(Annotation(Type(SuppressWarnings.class)).withValue(AST.String("unchecked")))
+						.withInitialization(AST.Cast(attributeTypeRef, Name(sharedFieldName)));
+			}
 		}
 		
 		type.editor().injectField( attributeFieldDecl
 				);
 	}
 	
+	/**
+	 * Injects the listener wrapper used by {@code weakListeners}, once per host type. It is a weak reference to the listener,
+	 * enqueued once the listener is collected on a queue shared by the wrappers of the type. {@code purge()} removes the
+	 * registrations of the enqueued wrappers, it is called when a listener is added, so no registration is removed while the
+	 * listeners are notified.
+	 */
+	private void injectWeakListenerType(final TYPE_TYPE type) {
+		if (hasMemberType(type, WEAK_LISTENER_CLASS_NAME)) return;
+		final TypeRef listenerTypeRef = Type("com.doctusoft.common.core.bean.ValueChangeListener").withTypeArgument(Type("V"));
+		final TypeRef queueTypeRef = Type("java.lang.ref.ReferenceQueue").withTypeArgument(Type("Object"));
+		final TypeRef registrationTypeRef = Type("com.doctusoft.common.core.bean.ListenerRegistration");
+		final TypeRef anyWeakListenerTypeRef = Type(WEAK_LISTENER_CLASS_NAME).withTypeArgument(Wildcard());
+		type.editor().injectType(ClassDecl(WEAK_LISTENER_CLASS_NAME).makePrivate().makeStatic().makeFinal()
+				.withTypeParameter(AST.TypeParam("V"))
+				.extending(Type("java.lang.ref.WeakReference").withTypeArgument(listenerTypeRef))
+				.implementing(listenerTypeRef)
+				.withField(FieldDecl(queueTypeRef, "COLLECTED").makePrivate().makeStatic().makeFinal().withInitialization(New(queueTypeRef)))
+				.withField(FieldDecl(registrationTypeRef, "registration").makeVolatile())
+				.withMethod(AST.ConstructorDecl(WEAK_LISTENER_CLASS_NAME)
+						.withArgument(Arg(listenerTypeRef, "listener").makeFinal())
+						.withSuperArgument(Name("listener"))
+						.withSuperArgument(Name("COLLECTED")))
+				.withMethod(MethodDecl(Type("void"), "valueChanged").makePublic().withAnnotation(Annotation(Type(Override.class)))
+						.withArgument(Arg(Type("V"), "newValue").makeFinal())
+						.withStatement(LocalDecl(listenerTypeRef, "listener").makeFinal().withInitialization(Call("get")))
+						.withStatement(If(NotEqual(Name("listener"), Null())).Then(Call(Name("listener"), "valueChanged").withArgument(Name("newValue")))))
+				.withMethod(MethodDecl(Type("void"), "purge").makeStatic()
+						.withStatement(AST.While(AST.True()).Do(Block()
+								.withStatement(LocalDecl(anyWeakListenerTypeRef, "collected").makeFinal()
+										.withInitialization(AST.Cast(anyWeakListenerTypeRef, Call(Name("COLLECTED"), "poll"))))
+								.withStatement(If(Equal(Name("collected"), Null())).Then(Return()))
+								.withStatement(LocalDecl(registrationTypeRef, "registration").makeFinal().withInitialization(Field(Name("collected"), "registration")))
+								.withStatement(If(NotEqual(Name("registration"), Null())).Then(Call(Name("registration"), "removeListener")))))));
+	}
+	
+	private Block notifyListeners(final Block block, final TypeRef attributeListenerTypeRef, final String listenerFieldName, final String attributeName,
+			final Expression<?> value) {
+		if (asyncExecutor.length() == 0) {
+			return fireListeners(block, attributeListenerTypeRef, listenerFieldName, value);
+		}
+		// the dispatch task reads the latest value, so flagging the attribute coalesces the pending notifications
+		final Block schedule = Block().withStatement(LocalDecl(Type("boolean"), "$schedule"))
+				.withStatement(Synchronized(AST.This())
+						.withStatement(Assign(Field(AST.This(), "$" + attributeName + "$pending"), AST.True()))
+						.withStatement(Assign(Name("$schedule"), AST.Not(Field(AST.This(), DISPATCH_SCHEDULED_FIELD_NAME))))
+						.withStatement(Assign(Field(AST.This(), DISPATCH_SCHEDULED_FIELD_NAME), AST.True())))
+				.withStatement(If(Name("$schedule")).Then(Call(AST.This(), SCHEDULE_DISPATCH_METHOD_NAME).withArgument(Name(asyncExecutor))));
+		if (lazyListeners) {
+			// without a listener container nobody listens, so there is nothing to dispatch
+			return block.withStatement(If(NotEqual(Field(AST.This(), listenerFieldName), Null())).Then(schedule));
+		}
+		return block.withStatements(schedule.getStatements());
+	}
+	
+	/**
+	 * Injects the pending flag and dispatch method of the attribute, and the dispatch task of the host type. The task
+	 * notifies every pending attribute until none is left, so it is rebuilt from the dispatch methods found on the type
+	 * each time another asynchronous attribute is added. The flags are guarded by the host object.
+	 */
+	private void injectAsyncDispatch(final TYPE_TYPE type, final String attributeName, final TypeRef attributeListenerTypeRef, final String listenerFieldName) {
+		final String pendingFieldName = "$" + attributeName + "$pending";
+		type.editor().injectField(FieldDecl(Type("boolean"), pendingFieldName).makePrivate());
+		type.editor().injectMethod(MethodDecl(Type("void"), "$" + attributeName + DISPATCH_CHANGE_METHOD_SUFFIX).makePrivate()
+				.withStatement(Synchronized(AST.This())
+						.withStatement(If(AST.Not(Field(AST.This(), pendingFieldName))).Then(Return()))
+						.withStatement(Assign(Field(AST.This(), pendingFieldName), AST.False())))
+				.withStatements(fireListeners(Block(), attributeListenerTypeRef, listenerFieldName, Field(AST.This(), attributeName)).getStatements()));
+		if (!type.hasField(DISPATCH_SCHEDULED_FIELD_NAME)) {
+			type.editor().injectField(FieldDecl(Type("boolean"), DISPATCH_SCHEDULED_FIELD_NAME).makePrivate());
+			// a rejected task would leave the flag set and no later change would schedule another one
+			type.editor().injectMethod(MethodDecl(Type("void"), SCHEDULE_DISPATCH_METHOD_NAME).makePrivate()
+					.withArgument(Arg(Type("java.util.concurrent.Executor"), "executor").makeFinal())
+					.withStatement(AST.Try(Block().withStatement(Call(Name("executor"), "execute").withArgument(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal()
+							.withMethod(MethodDecl(Type("void"), "run").makePublic().withAnnotation(Annotation(Type(Override.class)))
+									.withStatement(Call(DISPATCH_CHANGES_METHOD_NAME)))))))
+							.Catch(Arg(Type("java.util.concurrent.RejectedExecutionException"), "$e").makeFinal(), Block()
+									.withStatement(Synchronized(AST.This())
+											.withStatement(Assign(Field(AST.This(), DISPATCH_SCHEDULED_FIELD_NAME), AST.False())))
+									.withStatement(AST.Throw(Name("$e"))))));
+		}
+		final Block dispatchLoop = Block();
+		Expression<?> anyPending = null;
+		for (METHOD_TYPE method : type.methods()) {
+			if (DISPATCH_CHANGES_METHOD_NAME.equals(method.name())) {
+				type.editor().removeMethod(method);
+			} else if (method.name().startsWith("$") && method.name().endsWith(DISPATCH_CHANGE_METHOD_SUFFIX)) {
+				final String dispatchedName = method.name().substring(1, method.name().length() - DISPATCH_CHANGE_METHOD_SUFFIX.length());
+				final Expression<?> pending = Field(AST.This(), "$" + dispatchedName + "$pending");
+				anyPending = (anyPending == null) ? pending : Or(anyPending, pending);
+				dispatchLoop.withStatement(Call(AST.This(), method.name()));
+			}
+		}
+		dispatchLoop.withStatement(Synchronized(AST.This())
+				.withStatement(If(AST.Not(anyPending)).Then(Block()
+						.withStatement(Assign(Field(AST.This(), DISPATCH_SCHEDULED_FIELD_NAME), AST.False()))
+						.withStatement(Assign(Name("$done"), AST.True())))));
+		// a failing listener ends the task, a new one takes over the attributes that are still pending
+		type.editor().injectMethod(MethodDecl(Type("void"), DISPATCH_CHANGES_METHOD_NAME).makePrivate()
+				.withStatement(LocalDecl(Type("boolean"), "$done").withInitialization(AST.False()))
+				.withStatement(AST.Try(Block().withStatement(AST.While(AST.Not(Name("$done"))).Do(dispatchLoop)))
+						.Finally(Block().withStatement(If(AST.Not(Name("$done"))).Then(Call(AST.This(), SCHEDULE_DISPATCH_METHOD_NAME)
+								.withArgument(Name(asyncExecutor)))))));
+	}
+	
+	private static boolean hasMemberType(final IType<?, ?, ?, ?, ?, ?> type, final String typeName) {
+		try {
+			type.memberType(typeName);
+			return true;
+		} catch (final IllegalArgumentException e) {
+			// memberType does not return null for a missing type
+			return false;
+		}
+	}
+	
+	/**
+	 * Returns the asyncExecutor of another observable attribute of the type that differs from this one, or {@code null}.
+	 */
+	private String otherAsyncExecutor(final TYPE_TYPE type) {
+		final List<AnnotationValues<ObservableAttribute>> annotations = new ArrayList<AnnotationValues<ObservableAttribute>>();
+		for (IField<?, ?, ?, ?> other : type.fields()) {
+			if (other.getAnnotation(ObservableAttribute.class) != null) annotations.add(other.getAnnotationValue(ObservableAttribute.class));
+		}
+		for (METHOD_TYPE other : type.methods()) {
+			if (other.getAnnotation(ObservableAttribute.class) != null) annotations.add(other.getAnnotationValue(ObservableAttribute.class));
+		}
+		for (AnnotationValues<ObservableAttribute> annotation : annotations) {
+			final String otherExecutor = annotation.getInstance().asyncExecutor();
+			if ((otherExecutor.length() > 0) && !otherExecutor.equals(asyncExecutor)) return otherExecutor;
+		}
+		return null;
+	}
+	
+	private Block fireListeners(final Block block, final TypeRef attributeListenerTypeRef, final String listenerFieldName, final Expression<?> value) {
+		if (lazyListeners) {
+			return block.withStatement(LocalDecl(attributeListenerTypeRef, "$listeners").makeFinal().withInitialization(Field(AST.This(), listenerFieldName)))
+					.withStatement(If(NotEqual(Name("$listeners"), Null()))
+							.Then(Call(Name("$listeners"), "fireListeners").withArgument(value)));
+		}
+		return block.withStatement(Call(Name(listenerFieldName), "fireListeners").withArgument(value));
+	}
+	
+	/**
+	 * Injects the batch methods of the host type. {@code commitChanges()} delegates to {@code $flushChanges()}, which has to
+	 * flush every batched attribute of the type, so only that one is rebuilt from the flush methods found on the type each
+	 * time another attribute is added.
+	 */
+	private void injectBatchMethods(final TYPE_TYPE type) {
+		if (!type.hasField(BATCH_DEPTH_FIELD_NAME)) {
+			type.editor().injectField(FieldDecl(Type("int"), BATCH_DEPTH_FIELD_NAME).makePrivate());
+			type.editor().injectMethod(MethodDecl(Type("void"), BEGIN_CHANGES_METHOD_NAME).makePublic()
+					.withStatement(Assign(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), AST.Binary(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), "+", AST.Number(1)))));
+			type.editor().injectMethod(MethodDecl(Type("void"), COMMIT_CHANGES_METHOD_NAME).makePublic()
+					.withStatement(If(Equal(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), AST.Number(0))).Then(Return()))
+					.withStatement(Assign(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), AST.Binary(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), "-", AST.Number(1))))
+					.withStatement(If(AST.Binary(Field(AST.This(), BATCH_DEPTH_FIELD_NAME), ">", AST.Number(0))).Then(Return()))
+					.withStatement(Call(AST.This(), FLUSH_CHANGES_METHOD_NAME)));
+		}
+		final MethodDecl flushChanges = MethodDecl(Type("void"), FLUSH_CHANGES_METHOD_NAME).makePrivate();
+		for (METHOD_TYPE method : type.methods()) {
+			if (FLUSH_CHANGES_METHOD_NAME.equals(method.name())) {
+				type.editor().removeMethod(method);
+			} else if (method.name().startsWith("$") && method.name().endsWith(FLUSH_CHANGE_METHOD_SUFFIX)) {
+				flushChanges.withStatement(Call(AST.This(), method.name()));
+			}
+		}
+		type.editor().injectMethod(flushChanges);
+	}
+	
+	/**
+	 * Assigns the next bit of the dirty mask to the attribute. The bits are numbered by the order of the
+	 * {@code $name$markDirty} methods on the type. The public query methods are generated with the first bit and delegate
+	 * to {@code $}-prefixed ones, which are rebuilt from the mark methods each time.
+	 */
+	private void injectDirtyTracking(final TYPE_TYPE type, final String attributeName) {
+		final List<String> trackedAttributeNames = new ArrayList<String>();
+		for (METHOD_TYPE method : type.methods()) {
+			if (method.name().startsWith("$") && method.name().endsWith(MARK_DIRTY_METHOD_SUFFIX)) {
+				trackedAttributeNames.add(method.name().substring(1, method.name().length() - MARK_DIRTY_METHOD_SUFFIX.length()));
+			} else if (("$" + IS_DIRTY_METHOD_NAME).equals(method.name()) || ("$" + DIRTY_ATTRIBUTES_METHOD_NAME).equals(method.name())
+					|| ("$" + CLEAR_DIRTY_METHOD_NAME).equals(method.name())) {
+				type.editor().removeMethod(method);
+			}
+		}
+		final int bit = trackedAttributeNames.size();
+		final String dirtyFieldName = DIRTY_FIELD_PREFIX + (bit / DIRTY_WORD_SIZE);
+		if ((bit % DIRTY_WORD_SIZE) == 0) {
+			type.editor().injectField(FieldDecl(Type("long"), dirtyFieldName).makePrivate().makeTransient());
+		}
+		type.editor().injectMethod(MethodDecl(Type("void"), "$" + attributeName + MARK_DIRTY_METHOD_SUFFIX).makePrivate()
+				.withStatement(Assign(Field(AST.This(), dirtyFieldName), AST.Binary(Field(AST.This(), dirtyFieldName), "|", dirtyMask(bit)))));
+		trackedAttributeNames.add(attributeName);
+
+		final TypeRef dirtyListTypeRef = Type("java.util.List").withTypeArgument(anyAttributeTypeRef());
+		if (bit == 0) {
+			type.editor().injectMethod(MethodDecl(Type("boolean"), IS_DIRTY_METHOD_NAME).makePublic().withArgument(Arg(anyAttributeTypeRef(), "attribute").makeFinal())
+					.withStatement(Return(Call(AST.This(), "$" + IS_DIRTY_METHOD_NAME).withArgument(Name("attribute")))));
+			type.editor().injectMethod(MethodDecl(dirtyListTypeRef, DIRTY_ATTRIBUTES_METHOD_NAME).makePublic()
+					.withStatement(Return(Call(AST.This(), "$" + DIRTY_ATTRIBUTES_METHOD_NAME))));
+			type.editor().injectMethod(MethodDecl(Type("void"), CLEAR_DIRTY_METHOD_NAME).makePublic()
+					.withStatement(Call(AST.This(), "$" + CLEAR_DIRTY_METHOD_NAME)));
+		}
+		final MethodDecl isDirty = MethodDecl(Type("boolean"), "$" + IS_DIRTY_METHOD_NAME).makePrivate().withArgument(Arg(anyAttributeTypeRef(), "attribute").makeFinal());
+		final MethodDecl dirtyAttributes = MethodDecl(dirtyListTypeRef, "$" + DIRTY_ATTRIBUTES_METHOD_NAME).makePrivate()
+				.withStatement(LocalDecl(Type("java.util.List").withTypeArgument(anyAttributeTypeRef()), "attributes").makeFinal()
+						.withInitialization(New(Type("java.util.ArrayList").withTypeArgument(anyAttributeTypeRef()))));
+		final MethodDecl clearDirty = MethodDecl(Type("void"), "$" + CLEAR_DIRTY_METHOD_NAME).makePrivate();
+		for (int i = 0; i < trackedAttributeNames.size(); i++) {
+			final String trackedFieldName = DIRTY_FIELD_PREFIX + (i / DIRTY_WORD_SIZE);
+			final Expression<?> isSet = NotEqual(AST.Binary(Field(AST.This(), trackedFieldName), "&", dirtyMask(i)), AST.Number(0L));
+			// instance mode attributes are shared, so comparing with the field of this object identifies them as well
+			isDirty.withStatement(If(Equal(Name("attribute"), Name("_" + trackedAttributeNames.get(i)))).Then(Return(isSet)));
+			dirtyAttributes.withStatement(If(isSet).Then(Call(Name("attributes"), "add").withArgument(Name("_" + trackedAttributeNames.get(i)))));
+			if ((i % DIRTY_WORD_SIZE) == 0) {
+				clearDirty.withStatement(Assign(Field(AST.This(), trackedFieldName), AST.Number(0L)));
+			}
+		}
+		type.editor().injectMethod(isDirty.withStatement(Return(AST.False())));
+		type.editor().injectMethod(dirtyAttributes.withStatement(Return(Name("attributes"))));
+		type.editor().injectMethod(clearDirty);
+	}
+	
+	private TypeRef anyAttributeTypeRef() {
+		return Type("com.doctusoft.common.core.bean.Attribute").withTypeArgument(Wildcard()).withTypeArgument(Wildcard());
+	}
+	
+	/**
+	 * Compares primitives the way their wrappers' {@code equals} would, without boxing them. Other values are compared by reference.
+	 */
+	private Expression<?> sameValue(final String typeName, final Expression<?> oldValue, final Expression<?> newValue) {
+		if ("float".equals(typeName)) {
+			return Equal(Call(Name(Float.class), "floatToIntBits").withArgument(oldValue), Call(Name(Float.class), "floatToIntBits").withArgument(newValue));
+		} else if ("double".equals(typeName)) {
+			return Equal(Call(Name(Double.class), "doubleToLongBits").withArgument(oldValue), Call(Name(Double.class), "doubleToLongBits").withArgument(newValue));
+		}
+		return Equal(oldValue, newValue);
+	}
+	
+	private Expression<?> dirtyMask(final int bit) {
+		return AST.Binary(AST.Number(1L), "<<", AST.Number(bit % DIRTY_WORD_SIZE));
+	}
+	
+	/**
+	 * Returns the name of the static field holding the attribute that is shared by the instances when
+	 * {@code staticField = false} is used.
+	 */
+	public static String sharedAttributeFieldNameOf(final String attributeName) {
+		return "$" + attributeName + "$attribute";
+	}
+	
+	/**
+	 * Returns the name of the attribute a getter belongs to, or {@code null} if the method is not a getter.
+	 */
+	public static String attributeNameOf(final String methodName) {
+		if (methodName.startsWith("get") && (methodName.length() > 3)) {
+			return Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+		}
+		if (methodName.startsWith("is") && (methodName.length() > 2)) {
+			return Character.toLowerCase(methodName.charAt(2)) + methodName.substring(3);
+		}
+		return null;
+	}
+	
 	public static String getAttributeTypeName( final String typeName) {
 		if( primitives.containsKey(typeName) ) {
 			final String attributeTypeName = primitives.get(typeName);
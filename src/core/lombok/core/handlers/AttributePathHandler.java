@@ -0,0 +1,110 @@
+package lombok.core.handlers;
+
+import static lombok.ast.AST.*;
+import static lombok.core.util.ErrorMessages.*;
+
+import java.util.List;
+
+import lombok.*;
+import lombok.ast.*;
+import lombok.core.DiagnosticsReceiver;
+
+@RequiredArgsConstructor
+public final class AttributePathHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?, ?, ?>, METHOD_TYPE extends IMethod<TYPE_TYPE, ?, ?, ?>> {
+	private static final String[] PRIMITIVES = { "boolean", "byte", "char", "double", "float", "int", "long", "short", "void" };
+	private static final String VALUE_ARG_NAME = "value";
+
+	private final TYPE_TYPE type;
+	private final METHOD_TYPE method;
+	private final DiagnosticsReceiver diagnosticsReceiver;
+
+	public void handle(final String path, final List<String> viaTypeNames, final boolean readOnly) {
+		if (method == null) {
+			diagnosticsReceiver.addError(canBeUsedOnMethodOnly(AttributePath.class));
+			return;
+		}
+		final String attributeName = AttributeHandler.attributeNameOf(method.name());
+		final List<Argument> arguments = method.arguments();
+		if (!method.isStatic() || (attributeName == null) || (arguments.size() != 1)) {
+			diagnosticsReceiver.addError(String.format("@%s can be used on static getters with a single argument only.", AttributePath.class.getSimpleName()));
+			return;
+		}
+		for (String primitive : PRIMITIVES) {
+			if (method.returns(primitive)) {
+				diagnosticsReceiver.addError(String.format("@%s requires a reference return type.", AttributePath.class.getSimpleName()));
+				return;
+			}
+		}
+		final String[] properties = path.split("\\.");
+		if (properties.length != viaTypeNames.size() + 1) {
+			diagnosticsReceiver.addError(String.format("The path '%s' needs %d 'via' types, one for each intermediate property.", path, properties.length - 1));
+			return;
+		}
+
+		final String rootName = arguments.get(0).getName();
+		final TypeRef rootTypeRef = arguments.get(0).getType();
+		final TypeRef valueTypeRef = method.returns();
+		final String valueTypeName = valueTypeRef.toString().replaceAll("<.*>", "");
+		final String capitalizedName = attributeName.substring(0, 1).toUpperCase() + attributeName.substring(1);
+		final String setterName = "set" + capitalizedName;
+
+		final Block getterBody = Block();
+		final Block setterBody = Block();
+		getterBody.withStatement(If(Equal(Name(rootName), Null())).Then(Return(Null())));
+		setterBody.withStatement(If(Equal(Name(rootName), Null())).Then(Return()));
+		String receiverName = rootName;
+		for (int i = 0; i < viaTypeNames.size(); i++) {
+			final String stepName = "$step" + i;
+			final LocalDecl step = LocalDecl(Type(viaTypeNames.get(i)), stepName).makeFinal() //
+					.withInitialization(Call(Name(receiverName), getterName("get", properties[i])));
+			getterBody.withStatement(step).withStatement(If(Equal(Name(stepName), Null())).Then(Return(Null())));
+			setterBody.withStatement(LocalDecl(Type(viaTypeNames.get(i)), stepName).makeFinal() //
+					.withInitialization(Call(Name(receiverName), getterName("get", properties[i])))) //
+					.withStatement(If(Equal(Name(stepName), Null())).Then(Return()));
+			receiverName = stepName;
+		}
+		final String lastProperty = properties[properties.length - 1];
+		getterBody.withStatement(Return(Call(Name(receiverName), getterName("get", lastProperty))));
+		setterBody.withStatement(Call(Name(receiverName), getterName("set", lastProperty)).withArgument(Name(VALUE_ARG_NAME)));
+
+		method.editor().replaceBody(getterBody);
+		if (!readOnly && !type.hasMethod(setterName, rootTypeRef, valueTypeRef)) {
+			type.editor().injectMethod(MethodDecl(Type("void"), setterName).makePublic().makeStatic() //
+					.withArgument(Arg(rootTypeRef, rootName).makeFinal()) //
+					.withArgument(Arg(valueTypeRef, VALUE_ARG_NAME).makeFinal()) //
+					.withStatements(setterBody.getStatements()));
+		}
+
+		final Statement<?> setValueStatement;
+		if (readOnly) {
+			setValueStatement = Throw(New(Type(UnsupportedOperationException.class)).withArgument(String(path + " is read-only")));
+		} else {
+			setValueStatement = Call(setterName).withArgument(Name("instance")).withArgument(Name(VALUE_ARG_NAME));
+		}
+		final TypeRef attributeTypeRef = Type("com.doctusoft.common.core.bean.Attribute").withTypeArgument(rootTypeRef).withTypeArgument(valueTypeRef);
+		final ClassDecl attribute = ClassDecl("").makeAnonymous().makeLocal() //
+				.withMethod(MethodDecl(valueTypeRef, "getValue").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+						.withArgument(Arg(rootTypeRef, "instance")) //
+						.withStatement(Return(Call(method.name()).withArgument(Name("instance"))))) //
+				.withMethod(MethodDecl(Type("void"), "setValue").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+						.withArgument(Arg(rootTypeRef, "instance")) //
+						.withArgument(Arg(valueTypeRef, VALUE_ARG_NAME)) //
+						.withStatement(setValueStatement)) //
+				.withMethod(MethodDecl(Type("Class").withTypeArgument(rootTypeRef), "getParent").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+						.withStatement(Return(ClassLiteral(rootTypeRef.toString().replaceAll("<.*>", ""), null)))) //
+				.withMethod(MethodDecl(Type("String"), "getName").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+						.withStatement(Return(String(path)))) //
+				.withMethod(MethodDecl(Type("Class").withTypeArgument(valueTypeRef), "getType").makePublic() //
+						.withAnnotation(Annotation(Type(Override.class))) //
+						.withAnnotation(Annotation(Type(SuppressWarnings.class)).withValue(String("unchecked"))) //
+						.withStatement(Return(Cast(Type(Class.class), ClassLiteral(valueTypeName, null)))));
+		type.editor().injectField(FieldDecl(attributeTypeRef, "_" + attributeName).makePublic().makeStatic().makeFinal() //
+				.withInitialization(New(attributeTypeRef).withTypeDeclaration(attribute)));
+
+		type.editor().rebuild();
+	}
+
+	private static String getterName(final String prefix, final String property) {
+		return prefix + property.substring(0, 1).toUpperCase() + property.substring(1);
+	}
+}
@@ -0,0 +1,187 @@
+package lombok.core.handlers;
+
+import static lombok.ast.AST.*;
+import static lombok.core.util.ErrorMessages.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.*;
+import lombok.ast.*;
+import lombok.core.AnnotationValues;
+import lombok.core.DiagnosticsReceiver;
+
+@RequiredArgsConstructor
+public final class AttributeRegistryHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIELD_TYPE, ?, ?, ?, ?>, METHOD_TYPE extends IMethod<TYPE_TYPE, ?, ?, ?>, FIELD_TYPE extends IField<TYPE_TYPE, ?, ?, ?>> {
+	private static final String REGISTRY_CLASS_NAME = "$AttributeRegistry";
+	private static final String COUNT_METHOD_NAME = "attributeCount";
+	private static final String AT_METHOD_NAME = "attributeAt";
+	private static final String INDEX_METHOD_NAME = "attributeIndex";
+	private static final String LOOKUP_METHOD_NAME = "attribute";
+	private static final String ATTRIBUTES_FIELD_NAME = "ATTRIBUTES";
+	private static final String NAME_ARG_NAME = "name";
+	private static final String INDEX_ARG_NAME = "index";
+	private static final String COPY_METHOD_NAME = "copyAttributes";
+	private static final String FROM_ARG_NAME = "from";
+	private static final String TO_ARG_NAME = "to";
+	private static final String MASK_ARG_NAME = "mask";
+
+	private final TYPE_TYPE type;
+	private final DiagnosticsReceiver diagnosticsReceiver;
+
+	public void handle() {
+		if (type.isAnnotation() || type.isInterface()) {
+			diagnosticsReceiver.addError(canBeUsedOnClassAndEnumOnly(AttributeRegistry.class));
+			return;
+		}
+		if (type.hasMethod(COUNT_METHOD_NAME) || type.hasMethod(AT_METHOD_NAME, Type("int")) || type.hasMethod(INDEX_METHOD_NAME, Type(String.class))
+				|| type.hasMethod(LOOKUP_METHOD_NAME, Type(String.class))) {
+			diagnosticsReceiver.addError(String.format("Not generating %s, %s, %s and %s: A method with one of those names already exists.", COUNT_METHOD_NAME,
+					AT_METHOD_NAME, INDEX_METHOD_NAME, LOOKUP_METHOD_NAME));
+			return;
+		}
+
+		List<AttributeInfo> attributes = collectAttributes();
+		List<String> attributeNames = new ArrayList<String>();
+		for (AttributeInfo attribute : attributes) {
+			attributeNames.add(attribute.name);
+		}
+		String hostTypeName = type.name();
+		if (hostTypeName.contains("$")) {
+			hostTypeName = hostTypeName.substring(hostTypeName.lastIndexOf('$') + 1);
+		}
+		TypeRef attributeTypeRef = Type("com.doctusoft.common.core.bean.Attribute").withTypeArgument(Wildcard()).withTypeArgument(Wildcard());
+
+		// the table lives in a holder class, so it is built after the attribute fields of the host type are initialized
+		NewArray table = NewArray(Type("com.doctusoft.common.core.bean.Attribute").withTypeArgument(Wildcard()).withTypeArgument(Wildcard()));
+		for (AttributeInfo attribute : attributes) {
+			// instance attributes are not static fields, but share a single attribute held by a static field
+			String attributeFieldName = attribute.staticField ? "_" + attribute.name : AttributeHandler.sharedAttributeFieldNameOf(attribute.name);
+			table.withInitializerExpression(Name(hostTypeName + "." + attributeFieldName));
+		}
+		if (attributes.isEmpty()) table.withDimensionExpression(Number(0));
+		type.editor().injectType(ClassDecl(REGISTRY_CLASS_NAME).makePrivate().makeStatic().makeFinal() //
+				.withField(FieldDecl(Type("com.doctusoft.common.core.bean.Attribute").withTypeArgument(Wildcard()).withTypeArgument(Wildcard()).withDimensions(1), ATTRIBUTES_FIELD_NAME) //
+						.makePrivate().makeStatic().makeFinal().withInitialization(table)));
+
+		type.editor().injectMethod(MethodDecl(Type("int"), COUNT_METHOD_NAME).makePublic().makeStatic() //
+				.withStatement(Return(Number(attributes.size()))));
+		type.editor().injectMethod(MethodDecl(attributeTypeRef, AT_METHOD_NAME).makePublic().makeStatic().withArgument(Arg(Type("int"), INDEX_ARG_NAME)) //
+				.withStatement(Return(ArrayRef(Name(REGISTRY_CLASS_NAME + "." + ATTRIBUTES_FIELD_NAME), Name(INDEX_ARG_NAME)))));
+		type.editor().injectMethod(MethodDecl(Type("int"), INDEX_METHOD_NAME).makePublic().makeStatic().withArgument(Arg(Type(String.class), NAME_ARG_NAME)) //
+				.withStatement(indexLookup(attributeNames)) //
+				.withStatement(Return(Unary("-", Number(1)))));
+		type.editor().injectMethod(MethodDecl(Type("com.doctusoft.common.core.bean.Attribute").withTypeArgument(Wildcard()).withTypeArgument(Wildcard()), LOOKUP_METHOD_NAME).makePublic().makeStatic() //
+				.withArgument(Arg(Type(String.class), NAME_ARG_NAME)) //
+				.withStatement(LocalDecl(Type("int"), INDEX_ARG_NAME).makeFinal().withInitialization(Call(INDEX_METHOD_NAME).withArgument(Name(NAME_ARG_NAME)))) //
+				.withStatement(If(Binary(Name(INDEX_ARG_NAME), "<", Number(0))).Then(Return(Null()))) //
+				.withStatement(Return(ArrayRef(Name(REGISTRY_CLASS_NAME + "." + ATTRIBUTES_FIELD_NAME), Name(INDEX_ARG_NAME)))));
+
+		injectCopyMethods(hostTypeName, attributes);
+
+		type.editor().rebuild();
+	}
+
+	/**
+	 * Injects {@code copyAttributes(from, to)} and, for at most 64 attributes, {@code copyAttributes(from, to, mask)} where
+	 * bit {@code i} of the mask selects the attribute at index {@code i}. Plain attributes are copied field by field,
+	 * attributes that notify listeners or track changes are copied through their setter. Attributes on final fields cannot
+	 * be assigned and are skipped, but keep their index in the mask.
+	 */
+	private void injectCopyMethods(final String hostTypeName, final List<AttributeInfo> attributes) {
+		MethodDecl copyAll = MethodDecl(Type("void"), COPY_METHOD_NAME).makePublic().makeStatic().withTypeParameters(type.typeParameters()) //
+				.withArgument(Arg(Type(hostTypeName).withTypeArguments(type.typeArguments()), FROM_ARG_NAME).makeFinal()) //
+				.withArgument(Arg(Type(hostTypeName).withTypeArguments(type.typeArguments()), TO_ARG_NAME).makeFinal());
+		for (AttributeInfo attribute : attributes) {
+			if (attribute.finalField) continue;
+			copyAll.withStatement(copyStatement(attribute));
+		}
+		type.editor().injectMethod(copyAll);
+
+		if (attributes.size() > Long.SIZE) {
+			diagnosticsReceiver.addWarning(String.format("%s has more than %d attributes, copyAttributes(from, to, mask) is not generated.", hostTypeName, Long.SIZE));
+			return;
+		}
+		MethodDecl copyMasked = MethodDecl(Type("void"), COPY_METHOD_NAME).makePublic().makeStatic().withTypeParameters(type.typeParameters()) //
+				.withArgument(Arg(Type(hostTypeName).withTypeArguments(type.typeArguments()), FROM_ARG_NAME).makeFinal()) //
+				.withArgument(Arg(Type(hostTypeName).withTypeArguments(type.typeArguments()), TO_ARG_NAME).makeFinal()) //
+				.withArgument(Arg(Type("long"), MASK_ARG_NAME).makeFinal());
+		for (int index = 0; index < attributes.size(); index++) {
+			if (attributes.get(index).finalField) continue;
+			copyMasked.withStatement(If(NotEqual(Binary(Name(MASK_ARG_NAME), "&", Binary(Number(1L), "<<", Number(index))), Number(0L))) //
+					.Then(copyStatement(attributes.get(index))));
+		}
+		type.editor().injectMethod(copyMasked);
+	}
+
+	private Statement<?> copyStatement(final AttributeInfo attribute) {
+		if (attribute.viaSetter) {
+			String setterName = "set" + attribute.name.substring(0, 1).toUpperCase() + attribute.name.substring(1);
+			return Call(Name(TO_ARG_NAME), setterName).withArgument(Field(Name(FROM_ARG_NAME), attribute.fieldName));
+		}
+		return Assign(Field(Name(TO_ARG_NAME), attribute.fieldName), Field(Name(FROM_ARG_NAME), attribute.fieldName));
+	}
+
+	/**
+	 * Returns the attributes in declaration order, the ones declared on fields first, then the ones declared on getters.
+	 */
+	private List<AttributeInfo> collectAttributes() {
+		Map<String, AttributeInfo> attributes = new LinkedHashMap<String, AttributeInfo>();
+		for (FIELD_TYPE field : type.fields()) {
+			putAttribute(attributes, field.filteredName(), field.name(), field.getAnnotation(Attribute.class), field.getAnnotationValue(Attribute.class), false, field.isFinal());
+			putAttribute(attributes, field.filteredName(), field.name(), field.getAnnotation(ObservableAttribute.class), field.getAnnotationValue(ObservableAttribute.class), true, field.isFinal());
+		}
+		for (METHOD_TYPE method : type.methods()) {
+			String attributeName = AttributeHandler.attributeNameOf(method.name());
+			if (attributeName == null) continue;
+			// the attribute handler backs getter attributes with a field of the attribute name
+			putAttribute(attributes, attributeName, attributeName, method.getAnnotation(Attribute.class), method.getAnnotationValue(Attribute.class), false, false);
+			putAttribute(attributes, attributeName, attributeName, method.getAnnotation(ObservableAttribute.class), method.getAnnotationValue(ObservableAttribute.class), true, false);
+		}
+		return new ArrayList<AttributeInfo>(attributes.values());
+	}
+
+	private void putAttribute(final Map<String, AttributeInfo> attributes, final String attributeName, final String fieldName, final Object annotationNode,
+			final AnnotationValues<?> annotation, final boolean observable, final boolean finalField) {
+		if (annotationNode == null) return;
+		final boolean staticField = !"false".equals(annotation.getRawExpression("staticField"));
+		final boolean viaSetter = observable || "true".equals(annotation.getRawExpression("trackDirty"));
+		attributes.put(attributeName, new AttributeInfo(attributeName, fieldName, staticField, viaSetter, finalField));
+	}
+
+	/**
+	 * Builds a switch on the (non-negative) hash code of the name, every case compares the names that share that hash.
+	 */
+	private Switch indexLookup(final List<String> attributeNames) {
+		Map<Integer, List<Integer>> indicesByHash = new LinkedHashMap<Integer, List<Integer>>();
+		for (int index = 0; index < attributeNames.size(); index++) {
+			Integer hash = attributeNames.get(index).hashCode() & Integer.MAX_VALUE;
+			List<Integer> indices = indicesByHash.get(hash);
+			if (indices == null) {
+				indices = new ArrayList<Integer>();
+				indicesByHash.put(hash, indices);
+			}
+			indices.add(index);
+		}
+		Switch lookup = Switch(Binary(Call(Name(NAME_ARG_NAME), "hashCode"), "&", Number(Integer.MAX_VALUE)));
+		for (Map.Entry<Integer, List<Integer>> entry : indicesByHash.entrySet()) {
+			Case caze = Case(Number(entry.getKey()));
+			for (Integer index : entry.getValue()) {
+				caze.withStatement(If(Call(String(attributeNames.get(index)), "equals").withArgument(Name(NAME_ARG_NAME))).Then(Return(Number(index))));
+			}
+			lookup.withCase(caze.withStatement(Break()));
+		}
+		return lookup;
+	}
+
+	@RequiredArgsConstructor
+	private static class AttributeInfo {
+		private final String name;
+		private final String fieldName;
+		private final boolean staticField;
+		private final boolean viaSetter;
+		private final boolean finalField;
+	}
+}
@@ -25,14 +25,21 @@ import static lombok.ast.AST.*;
 import static lombok.core.TransformationsUtil.toSetterName;
 import static lombok.core.util.ErrorMessages.*;
 import static lombok.core.util.Names.camelCaseToConstant;
+import static lombok.core.util.Names.capitalize;
 
+import java.beans.IndexedPropertyChangeEvent;
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
 import java.beans.VetoableChangeSupport;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Pattern;
 
 import lombok.*;
@@ -47,6 +54,8 @@ import lombok.experimental.Accessors;
 public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE, ?, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>, LOMBOK_NODE_TYPE extends LombokNode<?, LOMBOK_NODE_TYPE, ?>, SOURCE_TYPE> {
 	private static final String PROPERTY_CHANGE_SUPPORT_FIELD_NAME = "$propertyChangeSupport";
 	private static final String VETOABLE_CHANGE_SUPPORT_FIELD_NAME = "$vetoableChangeSupport";
+	private static final String PROPERTY_CHANGE_SUPPORT_UPDATER_FIELD_NAME = "$PROPERTY_CHANGE_SUPPORT";
+	private static final String VETOABLE_CHANGE_SUPPORT_UPDATER_FIELD_NAME = "$VETOABLE_CHANGE_SUPPORT";
 	private static final String PROPERTY_CHANGE_SUPPORT_METHOD_NAME = "getPropertyChangeSupport";
 	private static final String VETOABLE_CHANGE_SUPPORT_METHOD_NAME = "getVetoableChangeSupport";
 	private static final String LISTENER_ARG_NAME = "listener";
@@ -57,14 +66,27 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 	private static final String[] VETOABLE_CHANGE_METHOD_NAMES = As.array("addVetoableChangeListener", "removeVetoableChangeListener");
 	private static final String FIRE_PROPERTY_CHANGE_METHOD_NAME = "firePropertyChange";
 	private static final String FIRE_VETOABLE_CHANGE_METHOD_NAME = "fireVetoableChange";
+	private static final String FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME = "fireIndexedPropertyChange";
+	private static final String INDEX_ARG_NAME = "index";
+	private static final String COALESCING_FIRE_PROPERTY_CHANGE_METHOD_NAME = "$firePropertyChange";
+	private static final String BEGIN_UPDATE_METHOD_NAME = "beginUpdate";
+	private static final String END_UPDATE_METHOD_NAME = "endUpdate";
+	private static final String UPDATE_DEPTH_FIELD_NAME = "$updateDepth";
+	private static final String PENDING_CHANGES_FIELD_NAME = "$pendingChanges";
+	private static final String CHANGED_DURING_UPDATE_FIELD_NAME = "$changedDuringUpdate";
 	private static final String OLD_VALUE_VARIABLE_NAME = "$old";
 	private static final String E_VALUE_VARIABLE_NAME = "$e";
+	private static final String PROPERTY_CHANGE_LISTENERS_FIELD_NAME = "$propertyChangeListeners";
+	private static final String PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME = "$PROPERTY_CHANGE_LISTENERS";
+	private static final String WITH_PROPERTY_CHANGE_LISTENER_METHOD_NAME = "$withPropertyChangeListener";
+	private static final String WITHOUT_PROPERTY_CHANGE_LISTENER_METHOD_NAME = "$withoutPropertyChangeListener";
 	private static final Pattern SETTER_PATTERN = Pattern.compile("^(?:setter|fluentsetter|boundsetter)$", Pattern.CASE_INSENSITIVE);
 
 	private final LOMBOK_NODE_TYPE annotationNode;
 	private final SOURCE_TYPE ast;
 
-	public void handle(final AccessLevel level, final boolean vetoable, final boolean throwVetoException) {
+	public void handle(final AccessLevel level, final boolean vetoable, final boolean throwVetoException, final BoundSetter.Dispatcher dispatcher,
+			final BoundSetter.Coalescing coalesce, final boolean indexed) {
 		LOMBOK_NODE_TYPE mayBeField = annotationNode.up();
 		if (mayBeField == null) return;
 		TYPE_TYPE type = typeOf(annotationNode, ast);
@@ -85,7 +107,7 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 			annotationNode.addError(canBeUsedOnClassAndFieldOnly(BoundSetter.class));
 			return;
 		}
-		generateSetter(type, fields, level, vetoable | throwVetoException, throwVetoException);
+		generateSetter(type, fields, level, vetoable | throwVetoException, throwVetoException, dispatcher, coalesce, indexed);
 	}
 
 	protected abstract TYPE_TYPE typeOf(final LOMBOK_NODE_TYPE node, final SOURCE_TYPE ast);
@@ -98,13 +120,23 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 		return false; // default.. no need to check
 	}
 
-	private void generateSetter(final TYPE_TYPE type, final List<FIELD_TYPE> fields, final AccessLevel level, final boolean vetoable, final boolean throwVetoException) {
+	private void generateSetter(final TYPE_TYPE type, final List<FIELD_TYPE> fields, final AccessLevel level, final boolean vetoable, final boolean throwVetoException,
+			final BoundSetter.Dispatcher dispatcher, final BoundSetter.Coalescing coalesce, final boolean indexed) {
+		boolean generateIndexed = false;
+		boolean coalescing = false;
 		if (!fields.isEmpty()) {
 			if (!hasAllPropertyChangeMethods(type)) {
-				generatePropertyChangeSupportFields(type);
-				generateGetPropertySupportMethod(type);
-				generatePropertyChangeListenerMethods(type);
-				generateFirePropertyChangeMethod(type);
+				if (dispatcher == BoundSetter.Dispatcher.LIGHTWEIGHT) {
+					generatePropertyChangeListenerArrayFields(type);
+					generatePropertyChangeListenerArrayMethods(type);
+					generateLightweightPropertyChangeListenerMethods(type);
+					generateLightweightFirePropertyChangeMethod(type, false);
+				} else {
+					generatePropertyChangeSupportFields(type);
+					generateGetPropertySupportMethod(type);
+					generatePropertyChangeListenerMethods(type);
+					generateFirePropertyChangeMethod(type);
+				}
 			}
 			if (vetoable && !hasAllVetoableChangeMethods(type)) {
 				generateVetoableChangeSupportFields(type);
@@ -112,11 +144,20 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 				generateVetoableChangeListenerMethods(type);
 				generateFireVetoableChangeMethod(type);
 			}
+			if (coalesce != BoundSetter.Coalescing.NONE) {
+				coalescing = generateUpdateMethods(type, coalesce);
+			}
+			if (indexed) {
+				generateIndexed = generateFireIndexedPropertyChangeMethod(type, vetoable);
+			}
 		}
 		for (FIELD_TYPE field : fields) {
 			String propertyNameFieldName = "PROP_" + camelCaseToConstant(field.filteredName());
 			generatePropertyNameConstant(type, field, propertyNameFieldName);
-			generateSetter(type, field, level, vetoable, throwVetoException, propertyNameFieldName);
+			generateSetter(type, field, level, vetoable, throwVetoException, propertyNameFieldName, coalescing);
+			if (generateIndexed) {
+				generateIndexedMethods(type, field, level, propertyNameFieldName, coalescing);
+			}
 		}
 	}
 
@@ -143,7 +184,8 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 				.withInitialization(String(propertyName)));
 	}
 
-	private void generateSetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final boolean vetoable, final boolean throwVetoException, final String propertyNameFieldName) {
+	private void generateSetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final boolean vetoable, final boolean throwVetoException, final String propertyNameFieldName,
+			final boolean coalesce) {
 		String fieldName = field.filteredName();
 		boolean isBoolean = field.isOfType("boolean");
 		String setterName = toSetterName(field.getAnnotationValue(Accessors.class), field.name(), isBoolean);
@@ -155,7 +197,21 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 			methodDecl.withStatement(If(Equal(Name(fieldName), Null())).Then(Throw(New(Type(NullPointerException.class)).withArgument(String(fieldName)))));
 		}
 
+		// only the dispatchers generated into this type tell cheaply whether anybody listens, the veto listeners always see the change
+		Expression<?> unobserved = null;
+		if (type.hasField(PROPERTY_CHANGE_LISTENERS_FIELD_NAME)) {
+			unobserved = Equal(Field(PROPERTY_CHANGE_LISTENERS_FIELD_NAME), Null());
+		} else if (type.hasField(PROPERTY_CHANGE_SUPPORT_FIELD_NAME)) {
+			unobserved = Equal(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME), Null());
+		}
+		if ((unobserved != null) && !vetoable) {
+			methodDecl.withStatement(If(unobserved).Then(Block().withStatement(Assign(Field(fieldName), Name(fieldName))).withStatement(Return())));
+		}
+
 		methodDecl.withStatement(LocalDecl(field.type(), oldValueName).makeFinal().withInitialization(Field(fieldName)));
+		if (field.isPrimitive()) {
+			methodDecl.withStatement(If(sameValue(field, Name(oldValueName), Name(fieldName))).Then(Return()));
+		}
 
 		if (vetoable) {
 			if (throwVetoException) {
@@ -170,28 +226,190 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 		}
 
 		methodDecl.withStatement(Assign(Field(fieldName), Name(fieldName))) //
-				.withStatement(Call(FIRE_PROPERTY_CHANGE_METHOD_NAME) //
+				.withStatement(Call(coalesce ? COALESCING_FIRE_PROPERTY_CHANGE_METHOD_NAME : FIRE_PROPERTY_CHANGE_METHOD_NAME) //
 						.withArgument(Name(propertyNameFieldName)).withArgument(Name(oldValueName)).withArgument(Name(fieldName)));
 		type.editor().injectMethod(methodDecl);
 	}
 
+	/**
+	 * Reuses {@code fireIndexedPropertyChange(String, int, Object, Object)} if the type or a supertype has one, otherwise
+	 * generates it for the dispatcher of this type. Returns whether the indexed methods can be generated.
+	 */
+	private boolean generateFireIndexedPropertyChangeMethod(final TYPE_TYPE type, final boolean vetoable) {
+		if (vetoable) {
+			annotationNode.addWarning("@BoundSetter(indexed = true) can't be combined with vetoable changes, the indexed methods are not generated.");
+			return false;
+		}
+		final TypeRef[] argumentTypes = { Type(String.class), Type("int"), Type(Object.class), Type(Object.class) };
+		if (type.hasMethod(FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME, argumentTypes)) return true;
+		if (type.hasField(PROPERTY_CHANGE_LISTENERS_FIELD_NAME)) {
+			generateLightweightFirePropertyChangeMethod(type, true);
+			return true;
+		}
+		if (type.hasField(PROPERTY_CHANGE_SUPPORT_FIELD_NAME)) {
+			type.editor().injectMethod(MethodDecl(Type("void"), FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME).makePublic() //
+					.withArgument(Arg(Type(String.class), PROPERTY_NAME_ARG_NAME)).withArgument(Arg(Type("int"), INDEX_ARG_NAME)) //
+					.withArgument(Arg(Type(Object.class), OLD_VALUE_ARG_NAME)).withArgument(Arg(Type(Object.class), NEW_VALUE_ARG_NAME)) //
+					.withStatement(LocalDecl(Type(PropertyChangeSupport.class), "$support").makeFinal().withInitialization(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME))) //
+					.withStatement(If(NotEqual(Name("$support"), Null())).Then(Call(Name("$support"), FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME) //
+							.withArgument(Name(PROPERTY_NAME_ARG_NAME)).withArgument(Name(INDEX_ARG_NAME)).withArgument(Name(OLD_VALUE_ARG_NAME)).withArgument(Name(NEW_VALUE_ARG_NAME)))));
+			return true;
+		}
+		if (hasMethodIncludingSupertypes(type, FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME, argumentTypes)) return true;
+		annotationNode.addWarning("@BoundSetter(indexed = true) needs a fireIndexedPropertyChange(String, int, Object, Object) method, the indexed methods are not generated.");
+		return false;
+	}
+
+	/**
+	 * Array and {@code List} fields get a setter for a single element, {@code List} fields also get methods that add and
+	 * remove an element. Other fields are left alone.
+	 */
+	private void generateIndexedMethods(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String propertyNameFieldName, final boolean coalesce) {
+		final String fieldName = field.filteredName();
+		final boolean isArray = field.componentType() != null;
+		if (!isArray && !isList(field)) return;
+		final String setterName = toSetterName(field.getAnnotationValue(Accessors.class), field.name(), false);
+		if (!type.hasMethod(setterName, Type("int"), elementType(field))) {
+			final MethodDecl setter = MethodDecl(Type("void"), setterName).withAccessLevel(level) //
+					.withArgument(Arg(Type("int"), INDEX_ARG_NAME)).withArgument(Arg(elementType(field), fieldName));
+			if (isArray) {
+				setter.withStatement(LocalDecl(elementType(field), OLD_VALUE_VARIABLE_NAME).makeFinal().withInitialization(ArrayRef(Field(fieldName), Name(INDEX_ARG_NAME)))) //
+						.withStatement(Assign(ArrayRef(Field(fieldName), Name(INDEX_ARG_NAME)), Name(fieldName)));
+			} else {
+				setter.withStatement(LocalDecl(elementType(field), OLD_VALUE_VARIABLE_NAME).makeFinal() //
+						.withInitialization(Call(Field(fieldName), "set").withArgument(Name(INDEX_ARG_NAME)).withArgument(Name(fieldName))));
+			}
+			type.editor().injectMethod(setter.withStatement(indexedPropertyChange(propertyNameFieldName, Name(INDEX_ARG_NAME), Name(OLD_VALUE_VARIABLE_NAME), Name(fieldName), fieldName, coalesce)));
+		}
+		if (isArray) return;
+		final String addMethodName = "addTo" + capitalize(fieldName);
+		if (!type.hasMethod(addMethodName, elementType(field))) {
+			type.editor().injectMethod(MethodDecl(Type("void"), addMethodName).withAccessLevel(level).withArgument(Arg(elementType(field), fieldName)) //
+					.withStatement(Call(Field(fieldName), "add").withArgument(Name(fieldName))) //
+					.withStatement(indexedPropertyChange(propertyNameFieldName, Binary(Call(Field(fieldName), "size"), "-", Number(1)), Null(), Name(fieldName), fieldName, coalesce)));
+		}
+		final String removeMethodName = "removeFrom" + capitalize(fieldName);
+		if (!type.hasMethod(removeMethodName, Type("int"))) {
+			type.editor().injectMethod(MethodDecl(elementType(field), removeMethodName).withAccessLevel(level).withArgument(Arg(Type("int"), INDEX_ARG_NAME)) //
+					.withStatement(LocalDecl(elementType(field), OLD_VALUE_VARIABLE_NAME).makeFinal().withInitialization(Call(Field(fieldName), "remove").withArgument(Name(INDEX_ARG_NAME)))) //
+					.withStatement(indexedPropertyChange(propertyNameFieldName, Name(INDEX_ARG_NAME), Name(OLD_VALUE_VARIABLE_NAME), Null(), fieldName, coalesce)) //
+					.withStatement(Return(Name(OLD_VALUE_VARIABLE_NAME))));
+		}
+	}
+
+	/**
+	 * {@code isOfType} matches any type name ending with the given one, so {@code MyList} would pass as well.
+	 */
+	private boolean isList(final FIELD_TYPE field) {
+		final String typeName = field.type().getTypeName();
+		return "List".equals(typeName) || "java.util.List".equals(typeName);
+	}
+
+	private TypeRef elementType(final FIELD_TYPE field) {
+		final TypeRef componentType = field.componentType();
+		if (componentType != null) return componentType;
+		final List<TypeRef> typeArguments = field.typeArguments();
+		return typeArguments.size() == 1 ? typeArguments.get(0) : Type(Object.class);
+	}
+
+	/**
+	 * While coalescing, the element change is recorded with the current array or list as new value, so it does not replace
+	 * the new value of a preceding setter call with {@code null}. The old value of the whole property is not known here.
+	 */
+	private Statement<?> indexedPropertyChange(final String propertyNameFieldName, final Expression<?> index, final Expression<?> oldValue, final Expression<?> newValue,
+			final String fieldName, final boolean coalesce) {
+		final Call fire = Call(FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME).withArgument(Name(propertyNameFieldName)).withArgument(index).withArgument(oldValue).withArgument(newValue);
+		if (!coalesce) return fire;
+		return If(Equal(Field(UPDATE_DEPTH_FIELD_NAME), Number(0))).Then(fire) //
+				.Else(Call(COALESCING_FIRE_PROPERTY_CHANGE_METHOD_NAME).withArgument(Name(propertyNameFieldName)).withArgument(Null()).withArgument(Field(fieldName)));
+	}
+
+	/**
+	 * Injects {@code beginUpdate()} and {@code endUpdate()}, and the method the coalescing setters fire through. Between
+	 * the outermost pair the changes are only recorded, per property with the first old and the last new value, or as a
+	 * flag for the aggregate event that has {@code null} as property name. The first coalescing mode of a type is used
+	 * for all its coalescing setters. A listener that throws does not keep the other recorded changes from being fired,
+	 * the first failure is rethrown afterwards. Returns whether the setters can coalesce.
+	 */
+	private boolean generateUpdateMethods(final TYPE_TYPE type, final BoundSetter.Coalescing coalesce) {
+		if (type.hasField(UPDATE_DEPTH_FIELD_NAME)) return true;
+		if (type.hasMethod(BEGIN_UPDATE_METHOD_NAME) || type.hasMethod(END_UPDATE_METHOD_NAME)) {
+			annotationNode.addError(String.format("@BoundSetter(coalesce = %s) generates %s() and %s(), the type may not declare them itself.", coalesce.name(),
+					BEGIN_UPDATE_METHOD_NAME, END_UPDATE_METHOD_NAME));
+			return false;
+		}
+		final boolean perProperty = coalesce == BoundSetter.Coalescing.PER_PROPERTY;
+		final TypeRef pendingChangesType = Type(Map.class).withTypeArgument(Type(String.class)).withTypeArgument(Type(Object.class).withDimensions(1));
+		type.editor().injectField(FieldDecl(Type("int"), UPDATE_DEPTH_FIELD_NAME).makePrivate().makeTransient());
+		final MethodDecl coalescingFire = MethodDecl(Type("void"), COALESCING_FIRE_PROPERTY_CHANGE_METHOD_NAME).makePrivate() //
+				.withArgument(Arg(Type(String.class), PROPERTY_NAME_ARG_NAME)).withArgument(Arg(Type(Object.class), OLD_VALUE_ARG_NAME)).withArgument(Arg(Type(Object.class), NEW_VALUE_ARG_NAME)) //
+				.withStatement(If(Equal(Field(UPDATE_DEPTH_FIELD_NAME), Number(0))).Then(Block() //
+						.withStatement(Call(FIRE_PROPERTY_CHANGE_METHOD_NAME).withArgument(Name(PROPERTY_NAME_ARG_NAME)).withArgument(Name(OLD_VALUE_ARG_NAME)).withArgument(Name(NEW_VALUE_ARG_NAME))) //
+						.withStatement(Return())));
+		final MethodDecl endUpdate = MethodDecl(Type("void"), END_UPDATE_METHOD_NAME).makePublic() //
+				.withStatement(If(Equal(Field(UPDATE_DEPTH_FIELD_NAME), Number(0))).Then(Throw(New(Type(IllegalStateException.class)) //
+						.withArgument(String(END_UPDATE_METHOD_NAME + "() without " + BEGIN_UPDATE_METHOD_NAME + "()"))))) //
+				.withStatement(Assign(Field(UPDATE_DEPTH_FIELD_NAME), Binary(Field(UPDATE_DEPTH_FIELD_NAME), "-", Number(1)))) //
+				.withStatement(If(Binary(Field(UPDATE_DEPTH_FIELD_NAME), ">", Number(0))).Then(Return()));
+		if (perProperty) {
+			type.editor().injectField(FieldDecl(pendingChangesType, PENDING_CHANGES_FIELD_NAME).makePrivate().makeTransient());
+			coalescingFire.withStatement(If(Equal(Field(PENDING_CHANGES_FIELD_NAME), Null())).Then( //
+					Assign(Field(PENDING_CHANGES_FIELD_NAME), New(Type(LinkedHashMap.class).withTypeArgument(Type(String.class)).withTypeArgument(Type(Object.class).withDimensions(1)))))) //
+					.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "$change").makeFinal() //
+							.withInitialization(Call(Field(PENDING_CHANGES_FIELD_NAME), "get").withArgument(Name(PROPERTY_NAME_ARG_NAME)))) //
+					.withStatement(If(Equal(Name("$change"), Null())).Then(Call(Field(PENDING_CHANGES_FIELD_NAME), "put").withArgument(Name(PROPERTY_NAME_ARG_NAME)) //
+							.withArgument(NewArray(Type(Object.class)).withInitializerExpression(Name(OLD_VALUE_ARG_NAME)).withInitializerExpression(Name(NEW_VALUE_ARG_NAME)))) //
+							.Else(Assign(ArrayRef(Name("$change"), Number(1)), Name(NEW_VALUE_ARG_NAME))));
+			endUpdate.withStatement(LocalDecl(pendingChangesType, "$changes").makeFinal().withInitialization(Field(PENDING_CHANGES_FIELD_NAME))) //
+					.withStatement(If(Equal(Name("$changes"), Null())).Then(Return())) //
+					.withStatement(Assign(Field(PENDING_CHANGES_FIELD_NAME), Null())) //
+					.withStatement(LocalDecl(Type(RuntimeException.class), "$failure").withInitialization(Null())) //
+					.withStatement(Foreach(LocalDecl(Type("java.util.Map.Entry").withTypeArgument(Type(String.class)).withTypeArgument(Type(Object.class).withDimensions(1)), "$change").makeFinal()) //
+							.In(Call(Name("$changes"), "entrySet")).Do(Block().withStatement(Try(Block().withStatement(Call(FIRE_PROPERTY_CHANGE_METHOD_NAME) //
+									.withArgument(Call(Name("$change"), "getKey")).withArgument(ArrayRef(Call(Name("$change"), "getValue"), Number(0))) //
+									.withArgument(ArrayRef(Call(Name("$change"), "getValue"), Number(1))))) //
+									.Catch(Arg(Type(RuntimeException.class), "$e").makeFinal(), Block() //
+											.withStatement(If(Equal(Name("$failure"), Null())).Then(Assign(Name("$failure"), Name("$e")))))))) //
+					.withStatement(If(NotEqual(Name("$failure"), Null())).Then(Throw(Name("$failure"))));
+		} else {
+			type.editor().injectField(FieldDecl(Type("boolean"), CHANGED_DURING_UPDATE_FIELD_NAME).makePrivate().makeTransient());
+			coalescingFire.withStatement(Assign(Field(CHANGED_DURING_UPDATE_FIELD_NAME), True()));
+			endUpdate.withStatement(If(Not(Field(CHANGED_DURING_UPDATE_FIELD_NAME))).Then(Return())) //
+					.withStatement(Assign(Field(CHANGED_DURING_UPDATE_FIELD_NAME), False())) //
+					.withStatement(Call(FIRE_PROPERTY_CHANGE_METHOD_NAME).withArgument(Null()).withArgument(Null()).withArgument(Null()));
+		}
+		type.editor().injectMethod(MethodDecl(Type("void"), BEGIN_UPDATE_METHOD_NAME).makePublic() //
+				.withStatement(Assign(Field(UPDATE_DEPTH_FIELD_NAME), Binary(Field(UPDATE_DEPTH_FIELD_NAME), "+", Number(1)))));
+		type.editor().injectMethod(endUpdate);
+		type.editor().injectMethod(coalescingFire);
+		return true;
+	}
+
+	/**
+	 * Compares primitives the way their wrappers' {@code equals} would, without boxing them.
+	 */
+	private Expression<?> sameValue(final FIELD_TYPE field, final Expression<?> oldValue, final Expression<?> newValue) {
+		if (field.isOfType("float")) {
+			return Equal(Call(Name(Float.class), "floatToIntBits").withArgument(oldValue), Call(Name(Float.class), "floatToIntBits").withArgument(newValue));
+		} else if (field.isOfType("double")) {
+			return Equal(Call(Name(Double.class), "doubleToLongBits").withArgument(oldValue), Call(Name(Double.class), "doubleToLongBits").withArgument(newValue));
+		}
+		return Equal(oldValue, newValue);
+	}
+
 	private void generatePropertyChangeSupportFields(final TYPE_TYPE type) {
 		if (!type.hasField(PROPERTY_CHANGE_SUPPORT_FIELD_NAME)) {
 			type.editor().injectField(FieldDecl(Type(PropertyChangeSupport.class), PROPERTY_CHANGE_SUPPORT_FIELD_NAME).makePrivate().makeTransient().makeVolatile());
 		}
-		if (!type.hasField(PROPERTY_CHANGE_SUPPORT_FIELD_NAME + "Lock")) {
-			type.editor().injectField(FieldDecl(Type(Object.class).withDimensions(1), PROPERTY_CHANGE_SUPPORT_FIELD_NAME + "Lock").makePrivate().makeFinal() //
-					.withInitialization(NewArray(Type(Object.class)).withDimensionExpression(Number(0))));
-		}
+		injectFieldUpdater(type, PROPERTY_CHANGE_SUPPORT_UPDATER_FIELD_NAME, PROPERTY_CHANGE_SUPPORT_FIELD_NAME, PropertyChangeSupport.class);
 	}
 
 	private void generateGetPropertySupportMethod(final TYPE_TYPE type) {
 		if (type.hasMethod(PROPERTY_CHANGE_SUPPORT_METHOD_NAME)) return;
 		type.editor().injectMethod(MethodDecl(Type(PropertyChangeSupport.class), PROPERTY_CHANGE_SUPPORT_METHOD_NAME).makePrivate() //
 				.withStatement(If(Equal(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME), Null())).Then(Block() //
-						.withStatement(Synchronized(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME + "Lock")) //
-								.withStatement(If(Equal(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME), Null())).Then(Block() //
-										.withStatement(Assign(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME), New(Type(PropertyChangeSupport.class)).withArgument(This())))))))) //
+						.withStatement(Call(Name(PROPERTY_CHANGE_SUPPORT_UPDATER_FIELD_NAME), "compareAndSet").withArgument(This()).withArgument(Null()) //
+								.withArgument(New(Type(PropertyChangeSupport.class)).withArgument(This()))))) //
 				.withStatement(Return(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME))));
 	}
 
@@ -207,31 +425,152 @@ public abstract class BoundSetterHandler<TYPE_TYPE extends IType<?, FIELD_TYPE,
 				.withStatement(Call(Call(PROPERTY_CHANGE_SUPPORT_METHOD_NAME), methodName).withArgument(Name(LISTENER_ARG_NAME))));
 	}
 
+	/**
+	 * Without a listener there is no support object yet, and firing does not create one.
+	 */
 	private void generateFirePropertyChangeMethod(final TYPE_TYPE type) {
 		if (type.hasMethod(FIRE_PROPERTY_CHANGE_METHOD_NAME, Type(String.class), Type(Object.class), Type(Object.class))) return;
 		type.editor().injectMethod(MethodDecl(Type("void"), FIRE_PROPERTY_CHANGE_METHOD_NAME).makePublic() //
 				.withArgument(Arg(Type(String.class), PROPERTY_NAME_ARG_NAME)).withArgument(Arg(Type(Object.class), OLD_VALUE_ARG_NAME)).withArgument(Arg(Type(Object.class), NEW_VALUE_ARG_NAME)) //
-				.withStatement(Call(Call(PROPERTY_CHANGE_SUPPORT_METHOD_NAME), FIRE_PROPERTY_CHANGE_METHOD_NAME) //
-						.withArgument(Name(PROPERTY_NAME_ARG_NAME)).withArgument(Name(OLD_VALUE_ARG_NAME)).withArgument(Name(NEW_VALUE_ARG_NAME))));
+				.withStatement(LocalDecl(Type(PropertyChangeSupport.class), "$support").makeFinal().withInitialization(Field(PROPERTY_CHANGE_SUPPORT_FIELD_NAME))) //
+				.withStatement(If(NotEqual(Name("$support"), Null())).Then(Call(Name("$support"), FIRE_PROPERTY_CHANGE_METHOD_NAME) //
+						.withArgument(Name(PROPERTY_NAME_ARG_NAME)).withArgument(Name(OLD_VALUE_ARG_NAME)).withArgument(Name(NEW_VALUE_ARG_NAME)))));
+	}
+
+	/**
+	 * The lightweight dispatcher keeps the registrations in an immutable array of (property name, listener) pairs, a
+	 * {@code null} name standing for all properties. The array is replaced by compare-and-set through a static field
+	 * updater, so neither registering nor firing takes a lock, and {@code null} means that nobody listens. The pairs are
+	 * kept in one flat array instead of one array per property, a bean has few listeners and firing scans them once.
+	 */
+	private void generatePropertyChangeListenerArrayFields(final TYPE_TYPE type) {
+		if (!type.hasField(PROPERTY_CHANGE_LISTENERS_FIELD_NAME)) {
+			type.editor().injectField(FieldDecl(Type(Object.class).withDimensions(1), PROPERTY_CHANGE_LISTENERS_FIELD_NAME).makePrivate().makeTransient().makeVolatile());
+		}
+		injectFieldUpdater(type, PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME, PROPERTY_CHANGE_LISTENERS_FIELD_NAME, Object[].class);
+	}
+
+	/**
+	 * The lazily created support objects and the listener array are set by compare-and-set through a static updater, so
+	 * an instance needs no lock object of its own.
+	 */
+	private void injectFieldUpdater(final TYPE_TYPE type, final String updaterFieldName, final String fieldName, final Class<?> fieldType) {
+		if (type.hasField(updaterFieldName)) return;
+		final TypeRef valueType = fieldType.isArray() ? Type(fieldType.getComponentType()).withDimensions(1) : Type(fieldType);
+		final String valueTypeName = fieldType.isArray() ? fieldType.getComponentType().getName() + "[]" : fieldType.getName();
+		type.editor().injectField(FieldDecl(Type(AtomicReferenceFieldUpdater.class).withTypeArgument(Type(type.name())).withTypeArgument(valueType), updaterFieldName) //
+				.makePrivate().makeStatic().makeFinal() //
+				.withInitialization(Call(Name(AtomicReferenceFieldUpdater.class), "newUpdater").withArgument(ClassLiteral(type.name(), null)) //
+						.withArgument(ClassLiteral(valueTypeName, null)).withArgument(String(fieldName))));
+	}
+
+	private void generatePropertyChangeListenerArrayMethods(final TYPE_TYPE type) {
+		if (type.hasMethod(WITH_PROPERTY_CHANGE_LISTENER_METHOD_NAME, Type(Object.class).withDimensions(1), Type(String.class), Type(PropertyChangeListener.class))) return;
+		type.editor().injectMethod(listenerArrayMethod(WITH_PROPERTY_CHANGE_LISTENER_METHOD_NAME) //
+				.withStatement(If(Equal(Name("listeners"), Null())).Then(Return(NewArray(Type(Object.class)) //
+						.withInitializerExpression(Name(PROPERTY_NAME_ARG_NAME)).withInitializerExpression(Name(LISTENER_ARG_NAME))))) //
+				.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "updated").makeFinal() //
+						.withInitialization(Call(Name(Arrays.class), "copyOf").withArgument(Name("listeners")).withArgument(Binary(Field(Name("listeners"), "length"), "+", Number(2))))) //
+				.withStatement(Assign(ArrayRef(Name("updated"), Field(Name("listeners"), "length")), Name(PROPERTY_NAME_ARG_NAME))) //
+				.withStatement(Assign(ArrayRef(Name("updated"), Binary(Field(Name("listeners"), "length"), "+", Number(1))), Name(LISTENER_ARG_NAME))) //
+				.withStatement(Return(Name("updated"))));
+		type.editor().injectMethod(listenerArrayMethod(WITHOUT_PROPERTY_CHANGE_LISTENER_METHOD_NAME) //
+				.withStatement(If(Equal(Name("listeners"), Null())).Then(Return(Null()))) //
+				.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+				.withStatement(While(Binary(Name("i"), "<", Field(Name("listeners"), "length"))).Do(Block() //
+						.withStatement(If(And(Call(Name(LISTENER_ARG_NAME), "equals").withArgument(ArrayRef(Name("listeners"), Binary(Name("i"), "+", Number(1)))), //
+								Or(And(Equal(Name(PROPERTY_NAME_ARG_NAME), Null()), Equal(ArrayRef(Name("listeners"), Name("i")), Null())), //
+										And(NotEqual(Name(PROPERTY_NAME_ARG_NAME), Null()), Call(Name(PROPERTY_NAME_ARG_NAME), "equals").withArgument(ArrayRef(Name("listeners"), Name("i"))))))).Then(Block() //
+								.withStatement(If(Equal(Field(Name("listeners"), "length"), Number(2))).Then(Return(Null()))) //
+								.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "updated").makeFinal() //
+										.withInitialization(NewArray(Type(Object.class)).withDimensionExpression(Binary(Field(Name("listeners"), "length"), "-", Number(2))))) //
+								.withStatement(Call(Name(System.class), "arraycopy").withArgument(Name("listeners")).withArgument(Number(0)) //
+										.withArgument(Name("updated")).withArgument(Number(0)).withArgument(Name("i"))) //
+								.withStatement(Call(Name(System.class), "arraycopy").withArgument(Name("listeners")).withArgument(Binary(Name("i"), "+", Number(2))) //
+										.withArgument(Name("updated")).withArgument(Name("i")).withArgument(Binary(Binary(Field(Name("listeners"), "length"), "-", Name("i")), "-", Number(2)))) //
+								.withStatement(Return(Name("updated"))))) //
+						.withStatement(Assign(Name("i"), Binary(Name("i"), "+", Number(2)))))) //
+				.withStatement(Return(Name("listeners"))));
+	}
+
+	private MethodDecl listenerArrayMethod(final String methodName) {
+		return MethodDecl(Type(Object.class).withDimensions(1), methodName).makePrivate().makeStatic() //
+				.withArgument(Arg(Type(Object.class).withDimensions(1), "listeners")).withArgument(Arg(Type(String.class), PROPERTY_NAME_ARG_NAME)) //
+				.withArgument(Arg(Type(PropertyChangeListener.class), LISTENER_ARG_NAME));
+	}
+
+	private void generateLightweightPropertyChangeListenerMethods(final TYPE_TYPE type) {
+		for (String methodName : PROPERTY_CHANGE_METHOD_NAMES) {
+			final String updateMethodName = methodName.startsWith("add") ? WITH_PROPERTY_CHANGE_LISTENER_METHOD_NAME : WITHOUT_PROPERTY_CHANGE_LISTENER_METHOD_NAME;
+			if (!type.hasMethod(methodName, Type(PropertyChangeListener.class))) {
+				type.editor().injectMethod(MethodDecl(Type("void"), methodName).makePublic().withArgument(Arg(Type(PropertyChangeListener.class), LISTENER_ARG_NAME)) //
+						.withStatement(If(Equal(Name(LISTENER_ARG_NAME), Null())).Then(Return())) //
+						.withStatement(listenerArrayUpdate(updateMethodName, Null())));
+			}
+			if (!type.hasMethod(methodName, Type(String.class), Type(PropertyChangeListener.class))) {
+				type.editor().injectMethod(MethodDecl(Type("void"), methodName).makePublic() //
+						.withArgument(Arg(Type(String.class), PROPERTY_NAME_ARG_NAME)).withArgument(Arg(Type(PropertyChangeListener.class), LISTENER_ARG_NAME)) //
+						.withStatement(If(Or(Equal(Name(PROPERTY_NAME_ARG_NAME), Null()), Equal(Name(LISTENER_ARG_NAME), Null()))).Then(Return())) //
+						.withStatement(listenerArrayUpdate(updateMethodName, Name(PROPERTY_NAME_ARG_NAME))));
+			}
+		}
+	}
+
+	private Statement<?> listenerArrayUpdate(final String updateMethodName, final Expression<?> propertyName) {
+		return While(True()).Do(Block() //
+				.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "current").makeFinal().withInitialization(Field(PROPERTY_CHANGE_LISTENERS_FIELD_NAME))) //
+				.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "updated").makeFinal() //
+						.withInitialization(Call(updateMethodName).withArgument(Name("current")).withArgument(propertyName).withArgument(Name(LISTENER_ARG_NAME)))) //
+				.withStatement(If(Or(Equal(Name("updated"), Name("current")), //
+						Call(Name(PROPERTY_CHANGE_LISTENERS_UPDATER_FIELD_NAME), "compareAndSet").withArgument(This()).withArgument(Name("current")).withArgument(Name("updated")))) //
+						.Then(Return())));
+	}
+
+	/**
+	 * Like {@link PropertyChangeSupport#firePropertyChange(String, Object, Object)}, or its indexed variant, but the event
+	 * is only created when a listener of the property is found.
+	 */
+	private void generateLightweightFirePropertyChangeMethod(final TYPE_TYPE type, final boolean indexed) {
+		final String methodName = indexed ? FIRE_INDEXED_PROPERTY_CHANGE_METHOD_NAME : FIRE_PROPERTY_CHANGE_METHOD_NAME;
+		final MethodDecl methodDecl = MethodDecl(Type("void"), methodName).makePublic().withArgument(Arg(Type(String.class), PROPERTY_NAME_ARG_NAME));
+		final New event;
+		if (indexed) {
+			if (type.hasMethod(methodName, Type(String.class), Type("int"), Type(Object.class), Type(Object.class))) return;
+			methodDecl.withArgument(Arg(Type("int"), INDEX_ARG_NAME));
+			event = New(Type(IndexedPropertyChangeEvent.class)).withArgument(This()).withArgument(Name(PROPERTY_NAME_ARG_NAME)) //
+					.withArgument(Name(OLD_VALUE_ARG_NAME)).withArgument(Name(NEW_VALUE_ARG_NAME)).withArgument(Name(INDEX_ARG_NAME));
+		} else {
+			if (type.hasMethod(methodName, Type(String.class), Type(Object.class), Type(Object.class))) return;
+			event = New(Type(PropertyChangeEvent.class)).withArgument(This()).withArgument(Name(PROPERTY_NAME_ARG_NAME)) //
+					.withArgument(Name(OLD_VALUE_ARG_NAME)).withArgument(Name(NEW_VALUE_ARG_NAME));
+		}
+		type.editor().injectMethod(methodDecl.withArgument(Arg(Type(Object.class), OLD_VALUE_ARG_NAME)).withArgument(Arg(Type(Object.class), NEW_VALUE_ARG_NAME)) //
+				.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "$listeners").makeFinal().withInitialization(Field(PROPERTY_CHANGE_LISTENERS_FIELD_NAME))) //
+				.withStatement(If(Equal(Name("$listeners"), Null())).Then(Return())) //
+				.withStatement(If(And(And(NotEqual(Name(OLD_VALUE_ARG_NAME), Null()), NotEqual(Name(NEW_VALUE_ARG_NAME), Null())), //
+						Call(Name(OLD_VALUE_ARG_NAME), "equals").withArgument(Name(NEW_VALUE_ARG_NAME)))).Then(Return())) //
+				.withStatement(LocalDecl(Type(PropertyChangeEvent.class), "$event").withInitialization(Null())) //
+				.withStatement(LocalDecl(Type("int"), "$i").withInitialization(Number(0))) //
+				.withStatement(While(Binary(Name("$i"), "<", Field(Name("$listeners"), "length"))).Do(Block() //
+						.withStatement(If(Or(Equal(ArrayRef(Name("$listeners"), Name("$i")), Null()), Call(ArrayRef(Name("$listeners"), Name("$i")), "equals").withArgument(Name(PROPERTY_NAME_ARG_NAME)))).Then(Block() //
+								.withStatement(If(Equal(Name("$event"), Null())).Then(Assign(Name("$event"), event))) //
+								.withStatement(Call(Cast(Type(PropertyChangeListener.class), ArrayRef(Name("$listeners"), Binary(Name("$i"), "+", Number(1)))), "propertyChange").withArgument(Name("$event"))))) //
+						.withStatement(Assign(Name("$i"), Binary(Name("$i"), "+", Number(2)))))));
 	}
 
 	private void generateVetoableChangeSupportFields(final TYPE_TYPE type) {
 		if (!type.hasField(VETOABLE_CHANGE_SUPPORT_FIELD_NAME)) {
 			type.editor().injectField(FieldDecl(Type(VetoableChangeSupport.class), VETOABLE_CHANGE_SUPPORT_FIELD_NAME).makePrivate().makeTransient().makeVolatile());
 		}
-		if (!type.hasField(VETOABLE_CHANGE_SUPPORT_FIELD_NAME + "Lock")) {
-			type.editor().injectField(FieldDecl(Type(Object.class).withDimensions(1), VETOABLE_CHANGE_SUPPORT_FIELD_NAME + "Lock").makePrivate().makeFinal() //
-					.withInitialization(NewArray(Type(Object.class)).withDimensionExpression(Number(0))));
-		}
+		injectFieldUpdater(type, VETOABLE_CHANGE_SUPPORT_UPDATER_FIELD_NAME, VETOABLE_CHANGE_SUPPORT_FIELD_NAME, VetoableChangeSupport.class);
 	}
 
 	private void generateGetVetoableSupportMethod(final TYPE_TYPE type) {
 		if (type.hasMethod(VETOABLE_CHANGE_SUPPORT_METHOD_NAME)) return;
 		type.editor().injectMethod(MethodDecl(Type(VetoableChangeSupport.class), VETOABLE_CHANGE_SUPPORT_METHOD_NAME).makePrivate() //
 				.withStatement(If(Equal(Field(VETOABLE_CHANGE_SUPPORT_FIELD_NAME), Null())).Then(Block() //
-						.withStatement(Synchronized(Field(VETOABLE_CHANGE_SUPPORT_FIELD_NAME + "Lock")) //
-								.withStatement(If(Equal(Field(VETOABLE_CHANGE_SUPPORT_FIELD_NAME), Null())).Then(Block() //
-										.withStatement(Assign(Field(VETOABLE_CHANGE_SUPPORT_FIELD_NAME), New(Type(VetoableChangeSupport.class)).withArgument(This())))))))) //
+						.withStatement(Call(Name(VETOABLE_CHANGE_SUPPORT_UPDATER_FIELD_NAME), "compareAndSet").withArgument(This()).withArgument(Null()) //
+								.withArgument(New(Type(VetoableChangeSupport.class)).withArgument(This()))))) //
 				.withStatement(Return(Field(VETOABLE_CHANGE_SUPPORT_FIELD_NAME))));
 	}
 
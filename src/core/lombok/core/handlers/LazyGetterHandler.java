@@ -24,6 +24,19 @@ package lombok.core.handlers;
 import static lombok.ast.AST.*;
 import static lombok.core.TransformationsUtil.*;
 import static lombok.core.util.ErrorMessages.*;
+import static lombok.core.util.Names.camelCaseToConstant;
+import static lombok.core.util.Names.capitalize;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import lombok.*;
 import lombok.ast.*;
@@ -32,12 +45,21 @@ import lombok.core.DiagnosticsReceiver;
 import lombok.experimental.Accessors;
 
 @RequiredArgsConstructor
-public class LazyGetterHandler<TYPE_TYPE extends IType<? extends IMethod<TYPE_TYPE, ?, ?, ?>, ?, ?, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>> {
+public class LazyGetterHandler<TYPE_TYPE extends IType<? extends IMethod<TYPE_TYPE, ?, ?, ?>, FIELD_TYPE, ?, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>> {
+	private static final String WARM_UP_METHOD_NAME = "warmUpLazyFields";
+	private static final String WARM_UP_STATIC_METHOD_NAME = "warmUpStaticLazyFields";
+	private static final String EXECUTOR_ARG_NAME = "executor";
+
 	private final TYPE_TYPE type;
 	private final FIELD_TYPE field;
 	private final DiagnosticsReceiver diagnosticsReceiver;
 
-	public void handle(final AccessLevel level) {
+	public void handle(final LazyGetter lazyGetter) {
+		final AccessLevel level = lazyGetter.value();
+		final LazyGetter.Publication publication = lazyGetter.publication();
+		final long expireAfterNanos = lazyGetter.timeUnit().toNanos(lazyGetter.expireAfter());
+		final String refreshExecutor = lazyGetter.refreshExecutor();
+		final LazyGetter.Strength strength = lazyGetter.strength();
 		if (field == null) {
 			diagnosticsReceiver.addError(canBeUsedOnFieldOnly(LazyGetter.class));
 			return;
@@ -59,27 +81,382 @@ public class LazyGetterHandler<TYPE_TYPE extends IType<? extends IMethod<TYPE_TY
 			if (type.hasMethod(altName)) return;
 		}
 
-		createGetter(type, field, level, methodName);
+		if ((expireAfterNanos > 0) && (field.isStatic() || (publication != LazyGetter.Publication.FLAG))) {
+			diagnosticsReceiver.addError(String.format("@%s(expireAfter) can be used on instance fields with FLAG publication only", LazyGetter.class.getName()));
+			return;
+		}
+		if ((expireAfterNanos <= 0) && !refreshExecutor.isEmpty()) {
+			diagnosticsReceiver.addError(String.format("@%s(refreshExecutor) requires a positive expireAfter", LazyGetter.class.getName()));
+			return;
+		}
+
+		if ((strength != LazyGetter.Strength.STRONG) && (field.isStatic() || field.isPrimitive() || (publication != LazyGetter.Publication.FLAG) || (expireAfterNanos > 0))) {
+			diagnosticsReceiver.addError(String.format("@%s(strength = %s) can be used on instance fields of reference type with FLAG publication and no expiry only",
+					LazyGetter.class.getName(), strength));
+			return;
+		}
+
+		if ((lazyGetter.invalidate() || lazyGetter.computedCheck()) && field.isStatic()) {
+			diagnosticsReceiver.addError(String.format("@%s(invalidate, computedCheck) can be used on instance fields only", LazyGetter.class.getName()));
+			return;
+		}
+
+		if (lazyGetter.warmUp()) {
+			createWarmUpMethods(type);
+		}
+
+		if (field.isStatic()) {
+			if (publication == LazyGetter.Publication.HOLDER) {
+				createHolderGetter(type, field, level, methodName);
+			} else if (publication == LazyGetter.Publication.FLAG) {
+				createGetter(type, field, level, methodName);
+			} else {
+				diagnosticsReceiver.addError(String.format("@%s(publication = %s) can't be used on static fields", LazyGetter.class.getName(), publication));
+			}
+			return;
+		}
+		if (publication == LazyGetter.Publication.HOLDER) {
+			diagnosticsReceiver.addError(String.format("@%s(publication = %s) can be used on static fields only", LazyGetter.class.getName(), publication));
+			return;
+		}
+		if ((publication != LazyGetter.Publication.FLAG) && field.isPrimitive()) {
+			diagnosticsReceiver.addError(String.format("@%s(publication = %s) can be used on fields of reference type only", LazyGetter.class.getName(), publication));
+			return;
+		}
+		if ((publication == LazyGetter.Publication.COMPARE_AND_SET) && (field.componentType() != null)) {
+			diagnosticsReceiver.addError(String.format("@%s(publication = %s) can't be used on array fields", LazyGetter.class.getName(), publication));
+			return;
+		}
+
+		final String fieldName = field.filteredName();
+		final Class<?> referenceType = strength == LazyGetter.Strength.SOFT ? SoftReference.class : WeakReference.class;
+		final Statement<?> invalidation;
+		final Expression<?> computed;
+		if (strength != LazyGetter.Strength.STRONG) {
+			createReferenceGetter(type, field, level, methodName, referenceType);
+			invalidation = Synchronized(This()).withStatement(Assign(Field("$" + fieldName + "Reference"), Null()));
+			computed = null;
+		} else if (expireAfterNanos > 0) {
+			if (refreshExecutor.isEmpty()) {
+				createExpiringGetter(type, field, level, methodName, expireAfterNanos);
+				invalidation = clearFlag(field);
+			} else {
+				createRefreshAheadGetter(type, field, level, methodName, expireAfterNanos, refreshExecutor);
+				final String generationFieldName = "$" + fieldName + "Generation";
+				invalidation = clearFlag(field).withStatement(Assign(Field(generationFieldName), Binary(Field(generationFieldName), "+", Number(1))));
+			}
+			computed = And(Field("$" + fieldName + "Initialized"), notExpired("$" + fieldName + "ExpiresAt"));
+		} else if (publication == LazyGetter.Publication.SYNCHRONIZED) {
+			createSynchronizedGetter(type, field, level, methodName);
+			invalidation = Synchronized(This()).withStatement(Assign(Field(fieldName), Null()));
+			computed = NotEqual(Field(fieldName), Null());
+		} else if (publication == LazyGetter.Publication.COMPARE_AND_SET) {
+			createCompareAndSetGetter(type, field, level, methodName);
+			invalidation = Assign(Field(fieldName), Null());
+			computed = NotEqual(Field(fieldName), Null());
+		} else {
+			createGetter(type, field, level, methodName);
+			invalidation = clearFlag(field);
+			computed = Field("$" + fieldName + "Initialized");
+		}
+
+		if (lazyGetter.invalidate()) {
+			String invalidateMethodName = "invalidate" + capitalize(fieldName);
+			if (!type.hasMethod(invalidateMethodName)) {
+				type.editor().injectMethod(MethodDecl(Type("void"), invalidateMethodName).withAccessLevel(level).withStatement(invalidation));
+			}
+		}
+		if (lazyGetter.computedCheck()) {
+			String isComputedMethodName = "is" + capitalize(fieldName) + "Computed";
+			if (!type.hasMethod(isComputedMethodName)) {
+				final MethodDecl isComputed = MethodDecl(Type("boolean"), isComputedMethodName).withAccessLevel(level);
+				if (computed == null) {
+					isComputed.withStatement(LocalDecl(Type(referenceType).withTypeArgument(field.type()), "$reference").makeFinal().withInitialization(Field("$" + fieldName + "Reference"))) //
+							.withStatement(Return(And(NotEqual(Name("$reference"), Null()), NotEqual(Call(Name("$reference"), "get"), Null()))));
+				} else {
+					isComputed.withStatement(Return(computed));
+				}
+				type.editor().injectMethod(isComputed);
+			}
+		}
+	}
+
+	/**
+	 * The first lazy field with {@code warmUp} generates the methods for all of them, while the fields that follow are
+	 * still untouched by this handler.
+	 */
+	private void createWarmUpMethods(final TYPE_TYPE type) {
+		if (type.hasMethod(WARM_UP_METHOD_NAME, Type(Executor.class)) || type.hasMethod(WARM_UP_STATIC_METHOD_NAME, Type(Executor.class))) return;
+		final List<String> getterNames = new ArrayList<String>();
+		final List<String> staticGetterNames = new ArrayList<String>();
+		for (FIELD_TYPE lazyField : type.fields()) {
+			if (lazyField.getAnnotation(LazyGetter.class) == null) continue;
+			if (!lazyField.getAnnotationValue(LazyGetter.class).getInstance().warmUp()) continue;
+			String getterName = toGetterName(lazyField.getAnnotationValue(Accessors.class), lazyField.name(), lazyField.isOfType("boolean"));
+			(lazyField.isStatic() ? staticGetterNames : getterNames).add(getterName);
+		}
+		if (!getterNames.isEmpty()) {
+			type.editor().injectMethod(warmUpMethod(WARM_UP_METHOD_NAME, getterNames));
+		}
+		if (!staticGetterNames.isEmpty()) {
+			type.editor().injectMethod(warmUpMethod(WARM_UP_STATIC_METHOD_NAME, staticGetterNames).makeStatic());
+		}
+	}
+
+	/**
+	 * The futures complete in the order the getters finish, so the first failure that happens is the one rethrown. On a
+	 * failure or an interrupt the tasks that are still pending or running are cancelled.
+	 */
+	private MethodDecl warmUpMethod(final String methodName, final List<String> getterNames) {
+		final Block submitAndWait = Block();
+		for (String getterName : getterNames) {
+			submitAndWait.withStatement(Call(Name("$futures"), "add").withArgument(Call(Name("$completion"), "submit") //
+					.withArgument(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+							.withMethod(MethodDecl(Type("void"), "run").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+									.withStatement(Call(getterName))))) //
+					.withArgument(Null())));
+		}
+		for (int i = 0; i < getterNames.size(); i++) {
+			submitAndWait.withStatement(Call(Call(Name("$completion"), "take"), "get"));
+		}
+		return MethodDecl(Type("void"), methodName).makePublic().withArgument(Arg(Type(Executor.class), EXECUTOR_ARG_NAME)) //
+				.withThrownException(Type(InterruptedException.class)).withThrownException(Type(ExecutionException.class)) //
+				.withStatement(LocalDecl(Type(ExecutorCompletionService.class).withTypeArgument(Type(Object.class)), "$completion").makeFinal() //
+						.withInitialization(New(Type(ExecutorCompletionService.class).withTypeArgument(Type(Object.class))).withArgument(Name(EXECUTOR_ARG_NAME)))) //
+				.withStatement(LocalDecl(Type(List.class).withTypeArgument(Type(Future.class).withTypeArgument(Type(Object.class))), "$futures").makeFinal() //
+						.withInitialization(New(Type(ArrayList.class).withTypeArgument(Type(Future.class).withTypeArgument(Type(Object.class)))))) //
+				.withStatement(Try(submitAndWait).Finally(Block() //
+						.withStatement(Foreach(LocalDecl(Type(Future.class).withTypeArgument(Type(Object.class)), "$future").makeFinal()).In(Name("$futures")) //
+								.Do(Block().withStatement(Call(Name("$future"), "cancel").withArgument(True()))))));
+	}
+
+	/**
+	 * Clearing the flag under the monitor waits for a running initialization, so it can't be set again by a computation
+	 * that started before. A reference value is dropped as well, a primitive one is simply overwritten later.
+	 */
+	private lombok.ast.Synchronized clearFlag(final FIELD_TYPE field) {
+		final String fieldName = field.filteredName();
+		final lombok.ast.Synchronized clear = Synchronized(This()).withStatement(Assign(Field("$" + fieldName + "Initialized"), False()));
+		if (!field.isPrimitive()) clear.withStatement(Assign(Field(fieldName), Null()));
+		return clear;
 	}
 
+	/**
+	 * A static field keeps its place as well, its flag is static and the class object is locked instead of the instance.
+	 */
 	private void createGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName) {
 		String fieldName = field.filteredName();
 		String initializedFieldName = "$" + fieldName + "Initialized";
-		String lockFieldName = "$" + fieldName + "Lock";
+		final boolean isStatic = field.isStatic();
+
+		final FieldDecl initializedField = FieldDecl(Type("boolean"), initializedFieldName).makePrivate().makeVolatile();
+		if (isStatic) initializedField.makeStatic();
+		type.editor().injectField(initializedField);
+
+		// the lazy fields of an instance share its monitor rather than each allocating a lock object
+		final MethodDecl getter = MethodDecl(field.type(), methodName).withAccessLevel(level) //
+				.withStatement(If(Not(member(isStatic, initializedFieldName))).Then(Block() //
+						.withStatement(Synchronized(isStatic ? ClassLiteral(type.name(), null) : This()) //
+								.withStatement(If(Not(member(isStatic, initializedFieldName))).Then(Block() //
+										.withStatement(Assign(member(isStatic, fieldName), field.initialization())) //
+										.withStatement(Assign(member(isStatic, initializedFieldName), True()))))))) //
+				.withStatement(Return(member(isStatic, fieldName)));
+		if (isStatic) getter.makeStatic();
+		type.editor().injectMethod(getter);
+
+		field.editor().replaceInitialization(null);
+		field.editor().makeNonFinal();
+	}
+
+	/**
+	 * Like {@link #createGetter}, but the value is also computed again once the deadline stored next to it has passed.
+	 * The value and the deadline are volatile, so a reader that finds the deadline not passed yet reads a safely
+	 * published value, be it the old or the new one.
+	 */
+	private void createExpiringGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName, final long expireAfterNanos) {
+		String fieldName = field.filteredName();
+		String initializedFieldName = "$" + fieldName + "Initialized";
+		String expiresAtFieldName = "$" + fieldName + "ExpiresAt";
 
 		type.editor().injectField(FieldDecl(Type("boolean"), initializedFieldName).makePrivate().makeVolatile());
-		type.editor().injectField(FieldDecl(Type(Object.class).withDimensions(1), lockFieldName).makePrivate().makeFinal() //
-				.withInitialization(NewArray(Type(Object.class)).withDimensionExpression(Number(0))));
+		type.editor().injectField(FieldDecl(Type("long"), expiresAtFieldName).makePrivate().makeVolatile());
 
 		type.editor().injectMethod(MethodDecl(field.type(), methodName).withAccessLevel(level) //
-				.withStatement(If(Not(Field(initializedFieldName))).Then(Block() //
-						.withStatement(Synchronized(Field(lockFieldName)) //
-								.withStatement(If(Not(Field(initializedFieldName))).Then(Block() //
+				.withStatement(If(Or(Not(Field(initializedFieldName)), expired(expiresAtFieldName))).Then(Block() //
+						.withStatement(Synchronized(This()) //
+								.withStatement(If(Or(Not(Field(initializedFieldName)), expired(expiresAtFieldName))).Then(Block() //
 										.withStatement(Assign(Field(fieldName), field.initialization())) //
+										.withStatement(Assign(Field(expiresAtFieldName), deadline(expireAfterNanos))) //
 										.withStatement(Assign(Field(initializedFieldName), True()))))))) //
 				.withStatement(Return(Field(fieldName))));
 
 		field.editor().replaceInitialization(null);
 		field.editor().makeNonFinal();
+		field.editor().makeVolatile();
+	}
+
+	/**
+	 * Only the first call waits for the initializer. Once the value expired, the getter keeps returning it and hands the
+	 * computation of the new value to the executor, a volatile flag making sure that only one task is pending. A failed
+	 * or rejected refresh leaves the expired value in place, so the next call tries again. The task publishes its value
+	 * under the monitor, and only if no invalidation bumped the generation since the task was scheduled.
+	 */
+	private void createRefreshAheadGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName, final long expireAfterNanos,
+			final String refreshExecutor) {
+		String fieldName = field.filteredName();
+		String initializedFieldName = "$" + fieldName + "Initialized";
+		String expiresAtFieldName = "$" + fieldName + "ExpiresAt";
+		String refreshingFieldName = "$" + fieldName + "Refreshing";
+		String computeMethodName = "$compute" + capitalize(fieldName);
+		String refreshMethodName = "$refresh" + capitalize(fieldName);
+		String reloadMethodName = "$reload" + capitalize(fieldName);
+		String generationFieldName = "$" + fieldName + "Generation";
+
+		type.editor().injectField(FieldDecl(Type("boolean"), initializedFieldName).makePrivate().makeVolatile());
+		type.editor().injectField(FieldDecl(Type("long"), expiresAtFieldName).makePrivate().makeVolatile());
+		type.editor().injectField(FieldDecl(Type("boolean"), refreshingFieldName).makePrivate().makeVolatile());
+		type.editor().injectField(FieldDecl(Type("int"), generationFieldName).makePrivate());
+
+		type.editor().injectMethod(MethodDecl(field.type(), methodName).withAccessLevel(level) //
+				.withStatement(If(Not(Field(initializedFieldName))).Then(Block() //
+						.withStatement(Synchronized(This()) //
+								.withStatement(If(Not(Field(initializedFieldName))).Then(Block() //
+										.withStatement(Assign(Field(fieldName), Call(computeMethodName))) //
+										.withStatement(Assign(Field(expiresAtFieldName), deadline(expireAfterNanos))) //
+										.withStatement(Assign(Field(initializedFieldName), True())))))) //
+						.Else(If(And(expired(expiresAtFieldName), Not(Field(refreshingFieldName)))).Then(Call(refreshMethodName)))) //
+				.withStatement(Return(Field(fieldName))));
+		type.editor().injectMethod(MethodDecl(field.type(), computeMethodName).makePrivate() //
+				.withStatement(Return(field.initialization())));
+		type.editor().injectMethod(MethodDecl(Type("void"), refreshMethodName).makePrivate() //
+				.withStatement(LocalDecl(Type("int"), "$generation").makeFinal()) //
+				.withStatement(Synchronized(This()) //
+						.withStatement(If(Field(refreshingFieldName)).Then(Return())) //
+						.withStatement(Assign(Field(refreshingFieldName), True())) //
+						.withStatement(Assign(Name("$generation"), Field(generationFieldName)))) //
+				.withStatement(Try(Block().withStatement(Call(Name(refreshExecutor), "execute").withArgument(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+						.withMethod(MethodDecl(Type("void"), "run").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+								.withStatement(Try(Block().withStatement(Call(reloadMethodName).withArgument(Name("$generation")))) //
+										.Finally(Block().withStatement(Assign(Name(refreshingFieldName), False()))))))))) //
+						.Catch(Arg(Type(RejectedExecutionException.class), "$e"), Block().withStatement(Assign(Field(refreshingFieldName), False())))));
+		type.editor().injectMethod(MethodDecl(Type("void"), reloadMethodName).makePrivate().withArgument(Arg(Type("int"), "$generation")) //
+				.withStatement(LocalDecl(field.type(), "$value").makeFinal().withInitialization(Call(computeMethodName))) //
+				.withStatement(Synchronized(This()) //
+						.withStatement(If(NotEqual(Field(generationFieldName), Name("$generation"))).Then(Return())) //
+						.withStatement(Assign(Field(fieldName), Name("$value"))) //
+						.withStatement(Assign(Field(expiresAtFieldName), deadline(expireAfterNanos)))));
+
+		field.editor().replaceInitialization(null);
+		field.editor().makeNonFinal();
+		field.editor().makeVolatile();
+	}
+
+	/**
+	 * Replaces the field by a reference to the value. The fast path dereferences it without locking, a missing or cleared
+	 * value is computed under the monitor of the instance after checking the reference once more. There is a single
+	 * {@code $value} local, as ecj gives generated blocks no scope of their own.
+	 */
+	private void createReferenceGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName, final Class<?> referenceType) {
+		String fieldName = field.filteredName();
+		String referenceFieldName = "$" + fieldName + "Reference";
+
+		type.editor().injectField(FieldDecl(Type(referenceType).withTypeArgument(field.type()), referenceFieldName).makePrivate().makeTransient().makeVolatile());
+
+		type.editor().injectMethod(MethodDecl(field.type(), methodName).withAccessLevel(level) //
+				.withStatement(LocalDecl(Type(referenceType).withTypeArgument(field.type()), "$reference").withInitialization(Field(referenceFieldName))) //
+				.withStatement(LocalDecl(field.type(), "$value").withInitialization(Null())) //
+				.withStatement(readReferencedValue()) //
+				.withStatement(If(NotEqual(Name("$value"), Null())).Then(Return(Name("$value")))) //
+				.withStatement(Synchronized(This()) //
+						.withStatement(Assign(Name("$reference"), Field(referenceFieldName))) //
+						.withStatement(readReferencedValue()) //
+						.withStatement(If(Equal(Name("$value"), Null())).Then(Block() //
+								.withStatement(Assign(Name("$value"), field.initialization())) //
+								.withStatement(Assign(Field(referenceFieldName), New(Type(referenceType).withTypeArgument(field.type())).withArgument(Name("$value")))))) //
+						.withStatement(Return(Name("$value")))));
+
+		type.editor().removeField(field);
+	}
+
+	private Statement<?> readReferencedValue() {
+		return If(NotEqual(Name("$reference"), Null())).Then(Assign(Name("$value"), Call(Name("$reference"), "get")));
+	}
+
+	private Expression<?> member(final boolean isStatic, final String name) {
+		return isStatic ? Name(name) : Field(name);
+	}
+
+	private Expression<?> expired(final String expiresAtFieldName) {
+		return Binary(Binary(Call(Name(System.class), "nanoTime"), "-", Field(expiresAtFieldName)), ">=", Number(0L));
+	}
+
+	private Expression<?> notExpired(final String expiresAtFieldName) {
+		return Binary(Binary(Call(Name(System.class), "nanoTime"), "-", Field(expiresAtFieldName)), "<", Number(0L));
+	}
+
+	private Expression<?> deadline(final long expireAfterNanos) {
+		return Binary(Call(Name(System.class), "nanoTime"), "+", Number(expireAfterNanos));
+	}
+
+	/**
+	 * Moves the field into a nested holder class, so the class initialization of the holder does the locking, and only
+	 * once. The getter reads a static final field that the JIT can treat as a constant.
+	 */
+	private void createHolderGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName) {
+		String fieldName = field.filteredName();
+		String holderName = "$" + capitalize(fieldName) + "Holder";
+
+		type.editor().injectType(ClassDecl(holderName).makePrivate().makeStatic() //
+				.withField(FieldDecl(field.type(), "VALUE").makePrivate().makeFinal().makeStatic().withInitialization(field.initialization())));
+		type.editor().injectMethod(MethodDecl(field.type(), methodName).withAccessLevel(level).makeStatic() //
+				.withStatement(Return(Name(holderName + ".VALUE"))));
+
+		type.editor().removeField(field);
+	}
+
+	/**
+	 * Double-checks the volatile field itself, reading it once on the fast path. A {@code null} result is computed again
+	 * on the next call.
+	 */
+	private void createSynchronizedGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName) {
+		String fieldName = field.filteredName();
+
+		type.editor().injectMethod(MethodDecl(field.type(), methodName).withAccessLevel(level) //
+				.withStatement(LocalDecl(field.type(), "$value").withInitialization(Field(fieldName))) //
+				.withStatement(If(Equal(Name("$value"), Null())).Then(Block() //
+						.withStatement(Synchronized(This()) //
+								.withStatement(Assign(Name("$value"), Field(fieldName))) //
+								.withStatement(If(Equal(Name("$value"), Null())).Then(Block() //
+										.withStatement(Assign(Name("$value"), field.initialization())) //
+										.withStatement(Assign(Field(fieldName), Name("$value")))))))) //
+				.withStatement(Return(Name("$value"))));
+
+		field.editor().replaceInitialization(null);
+		field.editor().makeNonFinal();
+		field.editor().makeVolatile();
+	}
+
+	/**
+	 * The first value set through the static updater wins, the values computed by the losing threads are dropped.
+	 */
+	private void createCompareAndSetGetter(final TYPE_TYPE type, final FIELD_TYPE field, final AccessLevel level, final String methodName) {
+		String fieldName = field.filteredName();
+		String updaterFieldName = "$" + camelCaseToConstant(fieldName);
+		String rawTypeName = field.type().getTypeName();
+
+		type.editor().injectField(FieldDecl(Type(AtomicReferenceFieldUpdater.class).withTypeArgument(Type(type.name())).withTypeArgument(Type(rawTypeName)), updaterFieldName) //
+				.makePrivate().makeStatic().makeFinal() //
+				.withInitialization(Call(Name(AtomicReferenceFieldUpdater.class), "newUpdater").withArgument(ClassLiteral(type.name(), null)) //
+						.withArgument(ClassLiteral(rawTypeName, null)).withArgument(String(field.name()))));
+
+		type.editor().injectMethod(MethodDecl(field.type(), methodName).withAccessLevel(level) //
+				.withStatement(LocalDecl(field.type(), "$value").makeFinal().withInitialization(Field(fieldName))) //
+				.withStatement(If(NotEqual(Name("$value"), Null())).Then(Return(Name("$value")))) //
+				.withStatement(Call(Name(updaterFieldName), "compareAndSet").withArgument(This()).withArgument(Null()).withArgument(field.initialization())) //
+				.withStatement(Return(Field(fieldName))));
+
+		field.editor().replaceInitialization(null);
+		field.editor().makeNonFinal();
+		field.editor().makeVolatile();
 	}
 }
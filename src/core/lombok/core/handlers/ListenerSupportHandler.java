@@ -26,39 +26,304 @@ import static lombok.core.util.Names.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import lombok.ast.*;
 
 public abstract class ListenerSupportHandler<TYPE_TYPE extends IType<? extends IMethod<?, ?, ?, ?>, ?, ?, ?, ?, ?>> {
+	private static final String NO_LISTENERS_FIELD_NAME = "$NO_LISTENERS";
+	private static final String WITH_LISTENER_METHOD_NAME = "$withListener";
+	private static final String WITHOUT_LISTENER_METHOD_NAME = "$withoutListener";
+	private static final String WITH_WEAK_LISTENER_METHOD_NAME = "$withWeakListener";
+	private static final String WITHOUT_WEAK_LISTENER_METHOD_NAME = "$withoutWeakListener";
+	private static final String PURGE_METHOD_PREFIX = "$purge";
+	private static final String PENDING_EVENTS_FIELD_NAME = "$pendingEvents";
+	private static final String PENDING_EVENTS_UPDATER_FIELD_NAME = "$PENDING_EVENTS";
+	private static final String DRAIN_SCHEDULED_FIELD_NAME = "$drainScheduled";
+	private static final String DRAIN_SCHEDULED_UPDATER_FIELD_NAME = "$DRAIN_SCHEDULED";
+	private static final String ENQUEUE_EVENT_METHOD_NAME = "$enqueueEvent";
+	private static final String SCHEDULE_DRAIN_METHOD_NAME = "$scheduleDrain";
+	private static final String DRAIN_EVENTS_METHOD_NAME = "$drainEvents";
+	private static final String LISTENER_STATISTICS_FIELD_NAME = "$listenerStatistics";
+	private static final String RECORD_LISTENER_CALL_METHOD_NAME = "$recordListenerCall";
+	private static final int LATENCY_BUCKETS = 64;
 
-	public void addListenerField(final TYPE_TYPE type, final Object interfaze) {
+	/**
+	 * The listeners are kept in an immutable array that is replaced by compare-and-set, so the fire methods can loop
+	 * over a snapshot by index. In weak mode the array holds {@code WeakReference}s to the listeners.
+	 */
+	public void addListenerField(final TYPE_TYPE type, final Object interfaze, final boolean weak) {
 		String interfaceName = interfaceName(name(interfaze));
-		type.editor().injectField(FieldDecl(Type("java.util.List").withTypeArgument(Type(type(interfaze))), "$registered" + interfaceName).makePrivate().makeFinal() //
-				.withInitialization(New(Type("java.util.concurrent.CopyOnWriteArrayList").withTypeArgument(Type(type(interfaze))))));
+		addArrayMethods(type, weak);
+		type.editor().injectField(FieldDecl(Type("java.util.concurrent.atomic.AtomicReference").withTypeArgument(Type("Object").withDimensions(1)), "$registered" + interfaceName).makePrivate().makeFinal() //
+				.withInitialization(New(Type("java.util.concurrent.atomic.AtomicReference").withTypeArgument(Type("Object").withDimensions(1))).withArgument(Name(NO_LISTENERS_FIELD_NAME))));
 	}
 
-	public void addAddListenerMethod(final TYPE_TYPE type, final Object interfaze) {
+	public void addAddListenerMethod(final TYPE_TYPE type, final Object interfaze, final boolean weak) {
 		String interfaceName = interfaceName(name(interfaze));
 		type.editor().injectMethod(MethodDecl(Type("void"), "add" + interfaceName).makePublic().withArgument(Arg(Type(type(interfaze)), "l")) //
-				.withStatement(If(Not(Call(Name("$registered" + interfaceName), "contains").withArgument(Name("l")))) //
-						.Then(Call(Name("$registered" + interfaceName), "add").withArgument(Name("l")))));
+				.withStatement(If(Equal(Name("l"), Null())).Then(Return())) //
+				.withStatement(casLoop(interfaceName, weak ? WITH_WEAK_LISTENER_METHOD_NAME : WITH_LISTENER_METHOD_NAME, Name("l"))));
 	}
 
-	public void addRemoveListenerMethod(final TYPE_TYPE type, final Object interfaze) {
+	public void addRemoveListenerMethod(final TYPE_TYPE type, final Object interfaze, final boolean weak) {
 		String interfaceName = interfaceName(name(interfaze));
 		type.editor().injectMethod(MethodDecl(Type("void"), "remove" + interfaceName).makePublic().withArgument(Arg(Type(type(interfaze)), "l")) //
-				.withStatement(Call(Name("$registered" + interfaceName), "remove").withArgument(Name("l"))));
+				.withStatement(If(Equal(Name("l"), Null())).Then(Return())) //
+				.withStatement(casLoop(interfaceName, weak ? WITHOUT_WEAK_LISTENER_METHOD_NAME : WITHOUT_LISTENER_METHOD_NAME, Name("l"))));
+		// removing no listener only drops the cleared references, the fire methods call this when they find one
+		if (weak) type.editor().injectMethod(MethodDecl(Type("void"), PURGE_METHOD_PREFIX + interfaceName).makePrivate() //
+				.withStatement(casLoop(interfaceName, WITHOUT_WEAK_LISTENER_METHOD_NAME, Null())));
 	}
 
-	public void addFireListenerMethod(final TYPE_TYPE type, final Object interfaze, final Object method) {
+	/**
+	 * In asynchronous mode {@code fireXyz} only enqueues the event and {@code $fireXyz} delivers it when the event queue
+	 * is drained.
+	 */
+	public void addFireListenerMethod(final TYPE_TYPE type, final Object interfaze, final Object method, final boolean weak, final boolean async,
+			final boolean instrument) {
 		List<Expression<?>> args = new ArrayList<Expression<?>>();
 		List<Argument> params = new ArrayList<Argument>();
 		createParamsAndArgs(method, params, args);
 		String interfaceName = interfaceName(name(interfaze));
 		String methodName = name(method);
-		type.editor().injectMethod(MethodDecl(Type("void"), camelCase("fire", methodName)).makeProtected().withArguments(params) //
-				.withStatement(Foreach(LocalDecl(Type(type(interfaze)), "l")).In(Name("$registered" + interfaceName)) //
-						.Do(Call(Name("l"), methodName).withArguments(args))));
+		String fireMethodName = camelCase("fire", methodName);
+		MethodDecl fireListener = MethodDecl(Type("void"), async ? "$" + fireMethodName : fireMethodName).withArguments(params) //
+				.withStatement(LocalDecl(Type("Object").withDimensions(1), "$listeners").makeFinal().withInitialization(Call(Name("$registered" + interfaceName), "get")));
+		if (instrument) fireListener.withStatement(LocalDecl(Type(RuntimeException.class), "$failure").withInitialization(Null()));
+		if (async) {
+			List<Expression<?>> forwardedArgs = new ArrayList<Expression<?>>();
+			List<Argument> forwardedParams = new ArrayList<Argument>();
+			createParamsAndArgs(method, forwardedParams, forwardedArgs);
+			fireListener.makePrivate();
+			type.editor().injectMethod(MethodDecl(Type("void"), fireMethodName).makeProtected().withArguments(forwardedParams) //
+					.withStatement(Call(ENQUEUE_EVENT_METHOD_NAME).withArgument(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+							.withMethod(MethodDecl(Type("void"), "run").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+									.withStatement(Call("$" + fireMethodName).withArguments(forwardedArgs)))))));
+		} else {
+			fireListener.makeProtected();
+		}
+		if (weak) {
+			fireListener.withStatement(LocalDecl(Type("boolean"), "$purge").withInitialization(False())) //
+					.withStatement(LocalDecl(Type("int"), "$i").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("$i"), "<", Field(Name("$listeners"), "length"))).Do(Block() //
+							.withStatement(LocalDecl(Type("Object"), "$l").makeFinal().withInitialization(Call(Cast(Type("java.lang.ref.WeakReference").withTypeArgument(Wildcard()), ArrayRef(Name("$listeners"), Name("$i"))), "get"))) //
+							.withStatement(If(Equal(Name("$l"), Null())).Then(Assign(Name("$purge"), True())) //
+									.Else(callListener(Block(), Name("$l"), interfaze, methodName, args, instrument))) //
+							.withStatement(Unary("X++", Name("$i"))))) //
+					.withStatement(If(Name("$purge")).Then(Call(PURGE_METHOD_PREFIX + interfaceName)));
+		} else {
+			final Block body = Block();
+			Expression<?> listener = ArrayRef(Name("$listeners"), Name("$i"));
+			if (instrument) {
+				body.withStatement(LocalDecl(Type(Object.class), "$l").makeFinal().withInitialization(listener));
+				listener = Name("$l");
+			}
+			fireListener.withStatement(LocalDecl(Type("int"), "$i").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("$i"), "<", Field(Name("$listeners"), "length"))).Do(callListener(body, listener, interfaze, methodName, args, instrument) //
+							.withStatement(Unary("X++", Name("$i")))));
+		}
+		// the first failure is rethrown once every listener had its turn
+		if (instrument) fireListener.withStatement(If(NotEqual(Name("$failure"), Null())).Then(Throw(Name("$failure"))));
+		type.editor().injectMethod(fireListener);
+	}
+
+	private Block callListener(final Block block, final Expression<?> listener, final Object interfaze, final String methodName, final List<Expression<?>> args,
+			final boolean instrument) {
+		final Call call = Call(Cast(Type(type(interfaze)), listener), methodName).withArguments(args);
+		if (!instrument) return block.withStatement(call);
+		return block.withStatement(LocalDecl(Type("long"), "$start").makeFinal().withInitialization(Call(Name(System.class.getName()), "nanoTime"))) //
+				.withStatement(LocalDecl(Type("boolean"), "$failed").withInitialization(False())) //
+				.withStatement(Try(Block().withStatement(call)).Catch(Arg(Type(RuntimeException.class), "$e"), Block() //
+						.withStatement(Assign(Name("$failed"), True())) //
+						.withStatement(If(Equal(Name("$failure"), Null())).Then(Assign(Name("$failure"), Name("$e")))))) //
+				.withStatement(Call(RECORD_LISTENER_CALL_METHOD_NAME).withArgument(Name("$l")) //
+						.withArgument(Binary(Call(Name(System.class.getName()), "nanoTime"), "-", Name("$start"))).withArgument(Name("$failed")));
+	}
+
+	/**
+	 * Injects the per listener class statistics of the type and their accessor. Each statistic holds
+	 * {@value #LATENCY_BUCKETS} call counts, the count at index {@code i} being the calls that took less than
+	 * {@code 2^i} nanoseconds but not less than {@code 2^(i-1)}, followed by the number of failed calls. A negative
+	 * duration, which {@code nanoTime} can give on some platforms, is counted at index 0 instead of as a failure.
+	 */
+	public void addListenerStatistics(final TYPE_TYPE type) {
+		final TypeRef statisticsType = Type("java.util.concurrent.ConcurrentMap").withTypeArgument(Type(Class.class).withTypeArgument(Wildcard())) //
+				.withTypeArgument(Type("java.util.concurrent.atomic.AtomicLongArray"));
+		type.editor().injectField(FieldDecl(statisticsType, LISTENER_STATISTICS_FIELD_NAME).makePrivate().makeFinal() //
+				.withInitialization(New(Type("java.util.concurrent.ConcurrentHashMap").withTypeArgument(Type(Class.class).withTypeArgument(Wildcard())) //
+						.withTypeArgument(Type("java.util.concurrent.atomic.AtomicLongArray")))));
+		type.editor().injectMethod(MethodDecl(Type("void"), RECORD_LISTENER_CALL_METHOD_NAME).makePrivate() //
+				.withArgument(Arg(Type(Object.class), "listener")).withArgument(Arg(Type("long"), "nanos")).withArgument(Arg(Type("boolean"), "failed")) //
+				.withStatement(LocalDecl(Type("java.util.concurrent.atomic.AtomicLongArray"), "statistics") //
+						.withInitialization(Call(Name(LISTENER_STATISTICS_FIELD_NAME), "get").withArgument(Call(Name("listener"), "getClass")))) //
+				.withStatement(If(Equal(Name("statistics"), Null())).Then(Block() //
+						.withStatement(LocalDecl(Type("java.util.concurrent.atomic.AtomicLongArray"), "created").makeFinal() //
+								.withInitialization(New(Type("java.util.concurrent.atomic.AtomicLongArray")).withArgument(Number(LATENCY_BUCKETS + 1)))) //
+						.withStatement(Assign(Name("statistics"), Call(Name(LISTENER_STATISTICS_FIELD_NAME), "putIfAbsent") //
+								.withArgument(Call(Name("listener"), "getClass")).withArgument(Name("created")))) //
+						.withStatement(If(Equal(Name("statistics"), Null())).Then(Assign(Name("statistics"), Name("created")))))) //
+				.withStatement(Call(Name("statistics"), "incrementAndGet").withArgument(Binary(Number(LATENCY_BUCKETS), "-", //
+						Call(Name(Long.class.getName()), "numberOfLeadingZeros").withArgument(Call(Name(Math.class.getName()), "max").withArgument(Number(0L)).withArgument(Name("nanos")))))) //
+				.withStatement(If(Name("failed")).Then(Call(Name("statistics"), "incrementAndGet").withArgument(Number(LATENCY_BUCKETS)))));
+		type.editor().injectMethod(MethodDecl(Type("java.util.Map").withTypeArgument(Type(Class.class).withTypeArgument(Wildcard())).withTypeArgument(Type("long").withDimensions(1)), "listenerStatistics").makePublic() //
+				.withStatement(LocalDecl(Type("java.util.Map").withTypeArgument(Type(Class.class).withTypeArgument(Wildcard())).withTypeArgument(Type("long").withDimensions(1)), "snapshot").makeFinal() //
+						.withInitialization(New(Type("java.util.HashMap").withTypeArgument(Type(Class.class).withTypeArgument(Wildcard())).withTypeArgument(Type("long").withDimensions(1))))) //
+				.withStatement(Foreach(LocalDecl(Type("java.util.Map.Entry").withTypeArgument(Type(Class.class).withTypeArgument(Wildcard())) //
+						.withTypeArgument(Type("java.util.concurrent.atomic.AtomicLongArray")), "entry").makeFinal()).In(Call(Name(LISTENER_STATISTICS_FIELD_NAME), "entrySet")).Do(Block() //
+						.withStatement(LocalDecl(Type("long").withDimensions(1), "counts").makeFinal() //
+								.withInitialization(NewArray(Type("long")).withDimensionExpression(Number(LATENCY_BUCKETS + 1)))) //
+						.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+						.withStatement(While(Binary(Name("i"), "<", Field(Name("counts"), "length"))).Do(Block() //
+								.withStatement(Assign(ArrayRef(Name("counts"), Name("i")), Call(Call(Name("entry"), "getValue"), "get").withArgument(Name("i")))) //
+								.withStatement(Unary("X++", Name("i"))))) //
+						.withStatement(Call(Name("snapshot"), "put").withArgument(Call(Name("entry"), "getKey")).withArgument(Name("counts"))))) //
+				.withStatement(Return(Name("snapshot"))));
+	}
+
+	/**
+	 * Injects the bounded event queue of the type and the task that drains it on the given executor. The queue is created
+	 * by compare-and-set through a static field updater when the first event is published, so objects that never publish
+	 * do not carry one. A full queue blocks the publisher. One task at a time delivers the events of an object, in order. With a positive {@code batchSize}
+	 * the task delivers at most that many events and then hands the rest over to a new task, so a busy publisher does not
+	 * keep an executor thread to itself. The scheduled flag is a volatile int updated through a static field updater as
+	 * well, so each object only carries the int.
+	 */
+	public void addEventQueue(final TYPE_TYPE type, final String asyncExecutor, final int queueCapacity, final int batchSize) {
+		type.editor().injectField(FieldDecl(Type("java.util.concurrent.BlockingQueue").withTypeArgument(Type(Runnable.class)), PENDING_EVENTS_FIELD_NAME).makePrivate().makeTransient().makeVolatile());
+		type.editor().injectField(FieldDecl(Type(AtomicReferenceFieldUpdater.class).withTypeArgument(Type(type.name())).withTypeArgument(Type("java.util.concurrent.BlockingQueue")), PENDING_EVENTS_UPDATER_FIELD_NAME) //
+				.makePrivate().makeStatic().makeFinal() //
+				.withInitialization(Call(Name(AtomicReferenceFieldUpdater.class), "newUpdater").withArgument(ClassLiteral(type.name(), null)) //
+						.withArgument(ClassLiteral("java.util.concurrent.BlockingQueue", null)).withArgument(String(PENDING_EVENTS_FIELD_NAME))));
+		type.editor().injectField(FieldDecl(Type("int"), DRAIN_SCHEDULED_FIELD_NAME).makePrivate().makeTransient().makeVolatile());
+		type.editor().injectField(FieldDecl(Type(AtomicIntegerFieldUpdater.class).withTypeArgument(Type(type.name())), DRAIN_SCHEDULED_UPDATER_FIELD_NAME) //
+				.makePrivate().makeStatic().makeFinal() //
+				.withInitialization(Call(Name(AtomicIntegerFieldUpdater.class), "newUpdater").withArgument(ClassLiteral(type.name(), null)) //
+						.withArgument(String(DRAIN_SCHEDULED_FIELD_NAME))));
+		// the interrupt is kept for the caller, the event is dropped like it would be by a stopped publisher
+		type.editor().injectMethod(MethodDecl(Type("void"), ENQUEUE_EVENT_METHOD_NAME).makePrivate().withArgument(Arg(Type(Runnable.class), "event")) //
+				.withStatement(LocalDecl(Type("java.util.concurrent.BlockingQueue").withTypeArgument(Type(Runnable.class)), "queue").withInitialization(Name(PENDING_EVENTS_FIELD_NAME))) //
+				.withStatement(If(Equal(Name("queue"), Null())).Then(Block() //
+						.withStatement(Call(Name(PENDING_EVENTS_UPDATER_FIELD_NAME), "compareAndSet").withArgument(This()).withArgument(Null()) //
+								.withArgument(New(Type("java.util.concurrent.ArrayBlockingQueue").withTypeArgument(Type(Runnable.class))).withArgument(Number(queueCapacity)))) //
+						.withStatement(Assign(Name("queue"), Name(PENDING_EVENTS_FIELD_NAME))))) //
+				.withStatement(Try(Block().withStatement(Call(Name("queue"), "put").withArgument(Name("event")))) //
+						.Catch(Arg(Type(InterruptedException.class), "e"), Block() //
+								.withStatement(Call(Call(Name(Thread.class.getName()), "currentThread"), "interrupt")) //
+								.withStatement(Return()))) //
+				.withStatement(Call(SCHEDULE_DRAIN_METHOD_NAME)));
+		// a rejected task must not leave the flag set, or no later event would schedule one
+		type.editor().injectMethod(MethodDecl(Type("void"), SCHEDULE_DRAIN_METHOD_NAME).makePrivate() //
+				.withStatement(If(Call(Name(DRAIN_SCHEDULED_UPDATER_FIELD_NAME), "compareAndSet").withArgument(This()).withArgument(Number(0)).withArgument(Number(1))) //
+						.Then(Try(Block().withStatement(Call(Name(asyncExecutor), "execute").withArgument(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+								.withMethod(MethodDecl(Type("void"), "run").makePublic().withAnnotation(Annotation(Type(Override.class))) //
+										.withStatement(Call(DRAIN_EVENTS_METHOD_NAME))))))) //
+								.Catch(Arg(Type("java.util.concurrent.RejectedExecutionException"), "$e"), Block() //
+										.withStatement(Call(Name(DRAIN_SCHEDULED_UPDATER_FIELD_NAME), "set").withArgument(This()).withArgument(Number(0))) //
+										.withStatement(Throw(Name("$e")))))));
+		final Block deliver = Block() //
+				.withStatement(LocalDecl(Type(Runnable.class), "event").makeFinal().withInitialization(Call(Name(PENDING_EVENTS_FIELD_NAME), "poll"))) //
+				.withStatement(If(Equal(Name("event"), Null())).Then(Return())) //
+				.withStatement(Call(Name("event"), "run"));
+		final Block drain = Block();
+		if (batchSize > 0) {
+			drain.withStatement(LocalDecl(Type("int"), "delivered").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("delivered"), "<", Number(batchSize))).Do(deliver.withStatement(Unary("X++", Name("delivered")))));
+		} else {
+			drain.withStatement(While(True()).Do(deliver));
+		}
+		// a failing listener ends the task, the events behind it stay queued for the next one. The task is only scheduled
+		// after an event was queued, so the queue exists by then
+		type.editor().injectMethod(MethodDecl(Type("void"), DRAIN_EVENTS_METHOD_NAME).makePrivate() //
+				.withStatement(Try(drain).Finally(Block() //
+						.withStatement(Call(Name(DRAIN_SCHEDULED_UPDATER_FIELD_NAME), "set").withArgument(This()).withArgument(Number(0))) //
+						.withStatement(If(Not(Call(Name(PENDING_EVENTS_FIELD_NAME), "isEmpty"))).Then(Call(SCHEDULE_DRAIN_METHOD_NAME))))));
+	}
+
+	private Statement<?> casLoop(final String interfaceName, final String updateMethodName, final Expression<?> listener) {
+		return While(True()).Do(Block() //
+				.withStatement(LocalDecl(Type("Object").withDimensions(1), "current").makeFinal().withInitialization(Call(Name("$registered" + interfaceName), "get"))) //
+				.withStatement(LocalDecl(Type("Object").withDimensions(1), "updated").makeFinal().withInitialization(Call(updateMethodName).withArgument(Name("current")).withArgument(listener))) //
+				.withStatement(If(Or(Equal(Name("updated"), Name("current")), Call(Name("$registered" + interfaceName), "compareAndSet").withArgument(Name("current")).withArgument(Name("updated")))) //
+						.Then(Return())));
+	}
+
+	/**
+	 * Injects the array copying helpers shared by all listener types of the type, once.
+	 */
+	private void addArrayMethods(final TYPE_TYPE type, final boolean weak) {
+		if (!type.hasField(NO_LISTENERS_FIELD_NAME)) {
+			type.editor().injectField(FieldDecl(Type("Object").withDimensions(1), NO_LISTENERS_FIELD_NAME).makePrivate().makeStatic().makeFinal() //
+					.withInitialization(NewArray(Type("Object")).withDimensionExpression(Number(0))));
+		}
+		if (!weak && !type.hasMethod(WITH_LISTENER_METHOD_NAME, Type("Object").withDimensions(1), Type("Object"))) {
+			type.editor().injectMethod(arrayMethod(WITH_LISTENER_METHOD_NAME) //
+					.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("i"), "<", Field(Name("listeners"), "length"))).Do(Block() //
+							.withStatement(If(Call(Name("listener"), "equals").withArgument(ArrayRef(Name("listeners"), Name("i")))).Then(Return(Name("listeners")))) //
+							.withStatement(Unary("X++", Name("i"))))) //
+					.withStatement(LocalDecl(Type("Object").withDimensions(1), "updated").makeFinal() //
+							.withInitialization(Call(Name("java.util.Arrays"), "copyOf").withArgument(Name("listeners")).withArgument(Binary(Field(Name("listeners"), "length"), "+", Number(1))))) //
+					.withStatement(Assign(ArrayRef(Name("updated"), Field(Name("listeners"), "length")), Name("listener"))) //
+					.withStatement(Return(Name("updated"))));
+			type.editor().injectMethod(arrayMethod(WITHOUT_LISTENER_METHOD_NAME) //
+					.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("i"), "<", Field(Name("listeners"), "length"))).Do(Block() //
+							.withStatement(If(Call(Name("listener"), "equals").withArgument(ArrayRef(Name("listeners"), Name("i")))).Then(Block() //
+									.withStatement(LocalDecl(Type("Object").withDimensions(1), "updated").makeFinal() //
+											.withInitialization(NewArray(Type("Object")).withDimensionExpression(Binary(Field(Name("listeners"), "length"), "-", Number(1))))) //
+									.withStatement(Call(Name("java.lang.System"), "arraycopy").withArgument(Name("listeners")).withArgument(Number(0)) //
+											.withArgument(Name("updated")).withArgument(Number(0)).withArgument(Name("i"))) //
+									.withStatement(Call(Name("java.lang.System"), "arraycopy").withArgument(Name("listeners")).withArgument(Binary(Name("i"), "+", Number(1))) //
+											.withArgument(Name("updated")).withArgument(Name("i")).withArgument(Binary(Binary(Field(Name("listeners"), "length"), "-", Name("i")), "-", Number(1)))) //
+									.withStatement(Return(Name("updated"))))) //
+							.withStatement(Unary("X++", Name("i"))))) //
+					.withStatement(Return(Name("listeners"))));
+		}
+		if (weak && !type.hasMethod(WITH_WEAK_LISTENER_METHOD_NAME, Type("Object").withDimensions(1), Type("Object"))) {
+			// both drop the cleared references they find
+			type.editor().injectMethod(arrayMethod(WITH_WEAK_LISTENER_METHOD_NAME) //
+					.withStatement(LocalDecl(Type("Object").withDimensions(1), "updated").makeFinal() //
+							.withInitialization(NewArray(Type("Object")).withDimensionExpression(Binary(Field(Name("listeners"), "length"), "+", Number(1))))) //
+					.withStatement(LocalDecl(Type("int"), "size").withInitialization(Number(0))) //
+					.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("i"), "<", Field(Name("listeners"), "length"))).Do(Block() //
+							.withStatement(registeredReferent()) //
+							.withStatement(If(Call(Name("listener"), "equals").withArgument(Name("registered"))).Then(Return(Name("listeners")))) //
+							.withStatement(If(NotEqual(Name("registered"), Null())).Then(keepRegistered())) //
+							.withStatement(Unary("X++", Name("i"))))) //
+					.withStatement(Assign(ArrayRef(Name("updated"), Name("size")), New(Type("java.lang.ref.WeakReference").withTypeArgument(Type("Object"))).withArgument(Name("listener")))) //
+					.withStatement(Return(Call(Name("java.util.Arrays"), "copyOf").withArgument(Name("updated")).withArgument(Binary(Name("size"), "+", Number(1))))));
+			type.editor().injectMethod(arrayMethod(WITHOUT_WEAK_LISTENER_METHOD_NAME) //
+					.withStatement(LocalDecl(Type("Object").withDimensions(1), "updated").makeFinal() //
+							.withInitialization(NewArray(Type("Object")).withDimensionExpression(Field(Name("listeners"), "length")))) //
+					.withStatement(LocalDecl(Type("int"), "size").withInitialization(Number(0))) //
+					.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+					.withStatement(While(Binary(Name("i"), "<", Field(Name("listeners"), "length"))).Do(Block() //
+							.withStatement(registeredReferent()) //
+							.withStatement(If(And(NotEqual(Name("registered"), Null()), Or(Equal(Name("listener"), Null()), Not(Call(Name("listener"), "equals").withArgument(Name("registered")))))) //
+									.Then(keepRegistered())) //
+							.withStatement(Unary("X++", Name("i"))))) //
+					.withStatement(If(Equal(Name("size"), Field(Name("listeners"), "length"))).Then(Return(Name("listeners")))) //
+					.withStatement(Return(Call(Name("java.util.Arrays"), "copyOf").withArgument(Name("updated")).withArgument(Name("size")))));
+		}
+	}
+
+	private MethodDecl arrayMethod(final String methodName) {
+		return MethodDecl(Type("Object").withDimensions(1), methodName).makePrivate().makeStatic() //
+				.withArgument(Arg(Type("Object").withDimensions(1), "listeners")) //
+				.withArgument(Arg(Type("Object"), "listener"));
+	}
+
+	private LocalDecl registeredReferent() {
+		return LocalDecl(Type("Object"), "registered").makeFinal() //
+				.withInitialization(Call(Cast(Type("java.lang.ref.WeakReference").withTypeArgument(Wildcard()), ArrayRef(Name("listeners"), Name("i"))), "get"));
+	}
+
+	private Block keepRegistered() {
+		return Block().withStatement(Assign(ArrayRef(Name("updated"), Name("size")), ArrayRef(Name("listeners"), Name("i")))) //
+				.withStatement(Unary("X++", Name("size")));
 	}
 
 	protected abstract void createParamsAndArgs(Object method, List<Argument> params, List<Expression<?>> args);
@@ -1,6 +1,7 @@
 package lombok.eclipse.handlers;
 
 import lombok.Attribute;
+import lombok.ObservableAttribute;
 import lombok.core.AnnotationValues;
 import lombok.core.handlers.AttributeHandler;
 import lombok.eclipse.EclipseAnnotationHandler;
@@ -20,8 +21,10 @@ public class HandleAttribute extends EclipseAnnotationHandler<Attribute> {
 		final EclipseMethod method = EclipseMethod.methodOf(annotationNode, ast);	
 		final EclipseField field = EclipseField.fieldOf(annotationNode, ast);
 		final boolean staticField = !"false".equals(annotation.getRawExpression("staticField"));
+		final boolean specializePrimitives = "true".equals(annotation.getRawExpression("specializePrimitives"));
+		final boolean trackDirty = "true".equals(annotation.getRawExpression("trackDirty"));
 		
-		new AttributeHandler<EclipseType, EclipseMethod, EclipseField>(type, method, field, annotationNode, false, staticField).handle();
+		new AttributeHandler<EclipseType, EclipseMethod, EclipseField>(type, method, field, annotationNode, false, staticField, specializePrimitives, false, ObservableAttribute.ChangeCheck.NONE, false, trackDirty, "", false).handle();
 	}
 
 }
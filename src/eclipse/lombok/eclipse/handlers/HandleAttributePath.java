@@ -0,0 +1,31 @@
+package lombok.eclipse.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AttributePath;
+import lombok.core.AnnotationValues;
+import lombok.core.handlers.AttributePathHandler;
+import lombok.eclipse.EclipseAnnotationHandler;
+import lombok.eclipse.EclipseNode;
+import lombok.eclipse.handlers.ast.EclipseMethod;
+import lombok.eclipse.handlers.ast.EclipseType;
+
+import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.mangosdk.spi.ProviderFor;
+
+@ProviderFor(EclipseAnnotationHandler.class)
+public class HandleAttributePath extends EclipseAnnotationHandler<AttributePath> {
+
+	@Override
+	public void handle(final AnnotationValues<AttributePath> annotation, final Annotation ast, final EclipseNode annotationNode) {
+		final EclipseType type = EclipseType.typeOf(annotationNode, ast);
+		final EclipseMethod method = EclipseMethod.methodOf(annotationNode, ast);
+		final List<String> viaTypeNames = new ArrayList<String>();
+		for (String via : annotation.getRawExpressions("via")) {
+			viaTypeNames.add(via.replaceAll("\\.class$", ""));
+		}
+
+		new AttributePathHandler<EclipseType, EclipseMethod>(type, method, annotationNode).handle(annotation.getInstance().value(), viaTypeNames, annotation.getInstance().readOnly());
+	}
+}
@@ -0,0 +1,22 @@
+package lombok.eclipse.handlers;
+
+import lombok.AttributeRegistry;
+import lombok.core.AnnotationValues;
+import lombok.core.handlers.AttributeRegistryHandler;
+import lombok.eclipse.EclipseAnnotationHandler;
+import lombok.eclipse.EclipseNode;
+import lombok.eclipse.handlers.ast.EclipseField;
+import lombok.eclipse.handlers.ast.EclipseMethod;
+import lombok.eclipse.handlers.ast.EclipseType;
+
+import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.mangosdk.spi.ProviderFor;
+
+@ProviderFor(EclipseAnnotationHandler.class)
+public class HandleAttributeRegistry extends EclipseAnnotationHandler<AttributeRegistry> {
+
+	@Override
+	public void handle(final AnnotationValues<AttributeRegistry> annotation, final Annotation source, final EclipseNode annotationNode) {
+		new AttributeRegistryHandler<EclipseType, EclipseMethod, EclipseField>(EclipseType.typeOf(annotationNode, source), annotationNode).handle();
+	}
+}
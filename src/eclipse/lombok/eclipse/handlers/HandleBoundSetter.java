@@ -87,6 +87,7 @@ public class HandleBoundSetter extends EclipseAnnotationHandler<BoundSetter> {
 				return false;
 			}
 
-		}.handle(annotationInstance.value(), annotationInstance.vetoable(), annotationInstance.throwVetoException());
+		}.handle(annotationInstance.value(), annotationInstance.vetoable(), annotationInstance.throwVetoException(), annotationInstance.dispatcher(), annotationInstance.coalesce(),
+				annotationInstance.indexed());
 	}
 }
@@ -41,7 +41,6 @@ public class HandleLazyGetter extends EclipseAnnotationHandler<LazyGetter> {
 	public void handle(final AnnotationValues<LazyGetter> annotation, final Annotation ast, final EclipseNode annotationNode) {
 		EclipseType type = EclipseType.typeOf(annotationNode, ast);
 		EclipseField field = EclipseField.fieldOf(annotationNode, ast);
-		LazyGetter annotationInstance = annotation.getInstance();
-		new LazyGetterHandler<EclipseType, EclipseField>(type, field, annotationNode).handle(annotationInstance.value());
+		new LazyGetterHandler<EclipseType, EclipseField>(type, field, annotationNode).handle(annotation.getInstance());
 	}
 }
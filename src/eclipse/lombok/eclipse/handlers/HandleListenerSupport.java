@@ -63,11 +63,25 @@ public class HandleListenerSupport extends EclipseAnnotationHandler<ListenerSupp
 			return;
 		}
 
+		final ListenerSupport listenerSupport = annotation.getInstance();
+		final boolean weak = listenerSupport.weak();
+		final boolean async = listenerSupport.asyncExecutor().length() > 0;
+		final boolean instrument = listenerSupport.instrument();
+		if (async && (listenerSupport.queueCapacity() < 1)) {
+			annotationNode.addError(String.format("@%s(queueCapacity) must be positive.", ListenerSupport.class.getName()));
+			return;
+		}
+		if (async && (listenerSupport.batchSize() < 0)) {
+			annotationNode.addError(String.format("@%s(batchSize) must not be negative.", ListenerSupport.class.getName()));
+			return;
+		}
 		List<Object> listenerInterfaces = annotation.getActualExpressions("value");
 		if (listenerInterfaces.isEmpty()) {
 			annotationNode.addError(String.format("@%s has no effect since no interface types were specified.", ListenerSupport.class.getName()));
 			return;
 		}
+		if (async) handler.addEventQueue(type, listenerSupport.asyncExecutor(), listenerSupport.queueCapacity(), listenerSupport.batchSize());
+		if (instrument) handler.addListenerStatistics(type);
 		for (Object listenerInterface : listenerInterfaces) {
 			if (listenerInterface instanceof ClassLiteralAccess) {
 				TypeBinding binding = ((ClassLiteralAccess) listenerInterface).type.resolveType(type.get().initializerScope);
@@ -76,20 +90,20 @@ public class HandleListenerSupport extends EclipseAnnotationHandler<ListenerSupp
 					annotationNode.addWarning(String.format("@%s works only with interfaces. %s was skipped", ListenerSupport.class.getName(), As.string(binding.readableName())));
 					continue;
 				}
-				handler.addListenerField(type, binding);
-				handler.addAddListenerMethod(type, binding);
-				handler.addRemoveListenerMethod(type, binding);
-				addFireListenerMethods(type, binding);
+				handler.addListenerField(type, binding, weak);
+				handler.addAddListenerMethod(type, binding, weak);
+				handler.addRemoveListenerMethod(type, binding, weak);
+				addFireListenerMethods(type, binding, weak, async, instrument);
 			}
 		}
 
 		type.editor().rebuild();
 	}
 
-	private void addFireListenerMethods(final EclipseType type, final TypeBinding interfaze) {
+	private void addFireListenerMethods(final EclipseType type, final TypeBinding interfaze, final boolean weak, final boolean async, final boolean instrument) {
 		List<MethodBinding> methods = getInterfaceMethods(interfaze);
 		for (MethodBinding method : methods) {
-			handler.addFireListenerMethod(type, interfaze, method);
+			handler.addFireListenerMethod(type, interfaze, method, weak, async, instrument);
 		}
 	}
 
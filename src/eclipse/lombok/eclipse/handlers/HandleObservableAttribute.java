@@ -20,8 +20,15 @@ public class HandleObservableAttribute extends EclipseAnnotationHandler<Observab
 		final EclipseMethod method = EclipseMethod.methodOf(annotationNode, ast);	
 		final EclipseField field = EclipseField.fieldOf(annotationNode, ast);
 		final boolean staticField = !"false".equals(annotation.getRawExpression("staticField"));
+		final boolean specializePrimitives = "true".equals(annotation.getRawExpression("specializePrimitives"));
+		final boolean lazyListeners = "true".equals(annotation.getRawExpression("lazyListeners"));
+		final ObservableAttribute.ChangeCheck changeCheck = annotation.getInstance().changeCheck();
+		final boolean batchChanges = "true".equals(annotation.getRawExpression("batchChanges"));
+		final boolean trackDirty = "true".equals(annotation.getRawExpression("trackDirty"));
+		final String asyncExecutor = annotation.getInstance().asyncExecutor();
+		final boolean weakListeners = "true".equals(annotation.getRawExpression("weakListeners"));
 		
-		new AttributeHandler<EclipseType, EclipseMethod, EclipseField>(type, method, field, annotationNode, true, staticField).handle();
+		new AttributeHandler<EclipseType, EclipseMethod, EclipseField>(type, method, field, annotationNode, true, staticField, specializePrimitives, lazyListeners, changeCheck, batchChanges, trackDirty, asyncExecutor, weakListeners).handle();
 	}
 
 }
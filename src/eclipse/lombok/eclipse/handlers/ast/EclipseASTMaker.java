@@ -412,7 +412,13 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 		constructorDeclaration.modifiers = modifiersFor(node.getModifiers());
 		constructorDeclaration.annotations = toArray(build(node.getAnnotations()), new Annotation[0]);
 		if (node.implicitSuper()) {
-			constructorDeclaration.constructorCall = new ExplicitConstructorCall(ExplicitConstructorCall.ImplicitSuper);
+			if (node.getSuperArgs().isEmpty()) {
+				constructorDeclaration.constructorCall = new ExplicitConstructorCall(ExplicitConstructorCall.ImplicitSuper);
+			} else {
+				constructorDeclaration.constructorCall = new ExplicitConstructorCall(ExplicitConstructorCall.Super);
+				constructorDeclaration.constructorCall.arguments = toArray(build(node.getSuperArgs()), new Expression[0]);
+				setGeneratedByAndCopyPos(constructorDeclaration.constructorCall, source, posHintOf(node));
+			}
 		}
 		constructorDeclaration.selector = node.getName().toCharArray();
 		constructorDeclaration.thrownExceptions = toArray(build(node.getThrownExceptions()), new TypeReference[0]);
@@ -645,6 +651,8 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 		allocationExpression.type = build(node.getType());
 		final List<Expression> dims = new ArrayList<Expression>();
 		dims.addAll(build(node.getDimensionExpressions(), Expression.class));
+		// unspecified dimensions (e.g. new Object[] {...}) are represented by null entries
+		while (dims.size() < node.getDimensions()) dims.add(null);
 		allocationExpression.dimensions = toArray(dims, new Expression[0]);
 		final List<Expression> initializerExpressions = build(node.getInitializerExpressions(), Expression.class);
 		if (!initializerExpressions.isEmpty()) {
@@ -727,6 +735,15 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 	
 	@Override
 	public ASTNode visitClassLiteral(ClassLiteral node, final Void p) {
+		String typeName = node.getTypeName();
+		if (typeName.endsWith("[]")) {
+			int dims = 0;
+			while (typeName.endsWith("[]")) {
+				typeName = typeName.substring(0, typeName.length() - 2);
+				dims++;
+			}
+			return new ClassLiteralAccess(0, build(Type(typeName).withDimensions(dims), TypeReference.class));
+		}
 		char[][] fromQualifiedName = Eclipse.fromQualifiedName(node.getTypeName());
 		long [] poss = new long[fromQualifiedName.length];
 		ClassLiteralAccess classLiteralAccess;
@@ -832,7 +849,7 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 			if (Is.notEmpty(paramTypes)) {
 				final TypeReference[][] typeArguments = new TypeReference[typeNameTokens.length][];
 				typeArguments[typeNameTokens.length - 1] = paramTypes;
-				typeReference = new ParameterizedQualifiedTypeReference(typeNameTokens, typeArguments, 0, poss);
+				typeReference = new ParameterizedQualifiedTypeReference(typeNameTokens, typeArguments, node.getDims(), poss);
 			} else {
 				if (node.getDims() > 0) {
 					typeReference = new ArrayQualifiedTypeReference(typeNameTokens, node.getDims(), poss);
@@ -843,7 +860,7 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 		} else {
 			final char[] typeNameToken = node.getTypeName().toCharArray();
 			if (Is.notEmpty(paramTypes)) {
-				typeReference = new ParameterizedSingleTypeReference(typeNameToken, paramTypes, 0, 0);
+				typeReference = new ParameterizedSingleTypeReference(typeNameToken, paramTypes, node.getDims(), 0);
 			} else {
 				if (node.getDims() > 0) {
 					typeReference = new ArrayTypeReference(typeNameToken, node.getDims(), 0);
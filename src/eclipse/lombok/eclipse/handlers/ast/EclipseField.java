@@ -32,12 +32,16 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
 import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.eclipse.jdt.internal.compiler.ast.ArrayQualifiedTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.ArrayTypeReference;
 import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.MemberValuePair;
 import org.eclipse.jdt.internal.compiler.ast.NormalAnnotation;
 import org.eclipse.jdt.internal.compiler.ast.ParameterizedQualifiedTypeReference;
 import org.eclipse.jdt.internal.compiler.ast.ParameterizedSingleTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.QualifiedTypeReference;
 import org.eclipse.jdt.internal.compiler.ast.SingleMemberAnnotation;
+import org.eclipse.jdt.internal.compiler.ast.SingleTypeReference;
 import org.eclipse.jdt.internal.compiler.ast.TypeReference;
 
 import lombok.core.AnnotationValues;
@@ -189,6 +193,27 @@ public final class EclipseField implements lombok.ast.IField<EclipseType, Eclips
 		return typeArguments;
 	}
 
+	public lombok.ast.TypeRef componentType() {
+		final TypeReference type = get().type;
+		final int dims = type.dimensions();
+		if (dims == 0) return null;
+		if (dims > 1) return Type(type.copyDims(dims - 1));
+		if (type instanceof ParameterizedQualifiedTypeReference) {
+			ParameterizedQualifiedTypeReference typeRef = (ParameterizedQualifiedTypeReference) type;
+			return Type(new ParameterizedQualifiedTypeReference(typeRef.tokens, typeRef.typeArguments, 0, typeRef.sourcePositions));
+		} else if (type instanceof ParameterizedSingleTypeReference) {
+			ParameterizedSingleTypeReference typeRef = (ParameterizedSingleTypeReference) type;
+			return Type(new ParameterizedSingleTypeReference(typeRef.token, typeRef.typeArguments, 0, ((long) typeRef.sourceStart << 32) | typeRef.sourceEnd));
+		} else if (type instanceof ArrayQualifiedTypeReference) {
+			ArrayQualifiedTypeReference typeRef = (ArrayQualifiedTypeReference) type;
+			return Type(new QualifiedTypeReference(typeRef.tokens, typeRef.sourcePositions));
+		} else if (type instanceof ArrayTypeReference) {
+			ArrayTypeReference typeRef = (ArrayTypeReference) type;
+			return Type(new SingleTypeReference(typeRef.token, ((long) typeRef.sourceStart << 32) | typeRef.sourceEnd));
+		}
+		return null;
+	}
+
 	public List<lombok.ast.Annotation> annotations() {
 		return annotations(null);
 	}
@@ -84,6 +84,10 @@ public final class EclipseFieldEditor implements lombok.ast.IFieldEditor<ASTNode
 		get().modifiers &= ~AccFinal;
 	}
 
+	public void makeVolatile() {
+		get().modifiers |= AccVolatile;
+	}
+
 	@Override
 	public String toString() {
 		return get().toString();
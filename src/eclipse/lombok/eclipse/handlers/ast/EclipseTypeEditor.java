@@ -43,7 +43,7 @@ import lombok.eclipse.EclipseNode;
 import lombok.eclipse.handlers.Eclipse;
 import lombok.eclipse.handlers.EclipseHandlerUtil;
 
-public final class EclipseTypeEditor implements lombok.ast.ITypeEditor<EclipseMethod, ASTNode, TypeDeclaration, AbstractMethodDeclaration> {
+public final class EclipseTypeEditor implements lombok.ast.ITypeEditor<EclipseMethod, EclipseField, ASTNode, TypeDeclaration, AbstractMethodDeclaration> {
 	private final EclipseType type;
 	private final EclipseASTMaker builder;
 
@@ -150,6 +150,18 @@ public final class EclipseTypeEditor implements lombok.ast.ITypeEditor<EclipseMe
 		node().removeChild(method.node());
 	}
 
+	public void removeField(final EclipseField field) {
+		TypeDeclaration type = get();
+		List<FieldDeclaration> fields = new ArrayList<FieldDeclaration>();
+		for (FieldDeclaration decl : type.fields) {
+			if (!decl.equals(field.get())) {
+				fields.add(decl);
+			}
+		}
+		type.fields = fields.toArray(new FieldDeclaration[0]);
+		node().removeChild(field.node());
+	}
+
 	public void makeEnum() {
 		get().modifiers |= AccEnum;
 	}
@@ -25,6 +25,7 @@ import static lombok.javac.handlers.Javac.deleteImport;
 import static lombok.javac.handlers.JavacHandlerUtil.deleteAnnotationIfNeccessary;
 import lombok.AccessLevel;
 import lombok.Attribute;
+import lombok.ObservableAttribute;
 import lombok.core.AnnotationValues;
 import lombok.core.handlers.AttributeHandler;
 import lombok.javac.JavacAnnotationHandler;
@@ -46,8 +47,10 @@ public class HandleAttribute extends JavacAnnotationHandler<Attribute> {
 		final JavacMethod method = JavacMethod.methodOf(annotationNode, ast);
 		final JavacField field = JavacField.fieldOf(annotationNode, ast);
 		final boolean staticField = !"false".equals(annotation.getRawExpression("staticField"));
+		final boolean specializePrimitives = "true".equals(annotation.getRawExpression("specializePrimitives"));
+		final boolean trackDirty = "true".equals(annotation.getRawExpression("trackDirty"));
 		
-		new AttributeHandler<JavacType, JavacMethod, JavacField>(type, method, field, annotationNode, false, staticField).handle();
+		new AttributeHandler<JavacType, JavacMethod, JavacField>(type, method, field, annotationNode, false, staticField, specializePrimitives, false, ObservableAttribute.ChangeCheck.NONE, false, trackDirty, "", false).handle();
 		deleteAnnotationIfNeccessary(annotationNode, Attribute.class);
 		deleteImport(annotationNode, AccessLevel.class);
 	}
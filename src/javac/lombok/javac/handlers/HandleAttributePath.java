@@ -0,0 +1,35 @@
+package lombok.javac.handlers;
+
+import static lombok.javac.handlers.JavacHandlerUtil.deleteAnnotationIfNeccessary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AttributePath;
+import lombok.core.AnnotationValues;
+import lombok.core.handlers.AttributePathHandler;
+import lombok.javac.JavacAnnotationHandler;
+import lombok.javac.JavacNode;
+import lombok.javac.handlers.ast.JavacMethod;
+import lombok.javac.handlers.ast.JavacType;
+
+import org.mangosdk.spi.ProviderFor;
+
+import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+
+@ProviderFor(JavacAnnotationHandler.class)
+public class HandleAttributePath extends JavacAnnotationHandler<AttributePath> {
+
+	@Override
+	public void handle(final AnnotationValues<AttributePath> annotation, final JCAnnotation ast, final JavacNode annotationNode) {
+		final JavacType type = JavacType.typeOf(annotationNode, ast);
+		final JavacMethod method = JavacMethod.methodOf(annotationNode, ast);
+		final List<String> viaTypeNames = new ArrayList<String>();
+		for (String via : annotation.getRawExpressions("via")) {
+			viaTypeNames.add(via.replaceAll("\\.class$", ""));
+		}
+
+		new AttributePathHandler<JavacType, JavacMethod>(type, method, annotationNode).handle(annotation.getInstance().value(), viaTypeNames, annotation.getInstance().readOnly());
+		deleteAnnotationIfNeccessary(annotationNode, AttributePath.class);
+	}
+}
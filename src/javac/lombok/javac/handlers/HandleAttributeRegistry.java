@@ -0,0 +1,26 @@
+package lombok.javac.handlers;
+
+import static lombok.javac.handlers.JavacHandlerUtil.*;
+
+import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+
+import lombok.AttributeRegistry;
+import lombok.core.AnnotationValues;
+import lombok.core.handlers.AttributeRegistryHandler;
+import lombok.javac.JavacAnnotationHandler;
+import lombok.javac.JavacNode;
+import lombok.javac.handlers.ast.JavacField;
+import lombok.javac.handlers.ast.JavacMethod;
+import lombok.javac.handlers.ast.JavacType;
+
+import org.mangosdk.spi.ProviderFor;
+
+@ProviderFor(JavacAnnotationHandler.class)
+public class HandleAttributeRegistry extends JavacAnnotationHandler<AttributeRegistry> {
+
+	@Override
+	public void handle(final AnnotationValues<AttributeRegistry> annotation, final JCAnnotation source, final JavacNode annotationNode) {
+		deleteAnnotationIfNeccessary(annotationNode, AttributeRegistry.class);
+		new AttributeRegistryHandler<JavacType, JavacMethod, JavacField>(JavacType.typeOf(annotationNode, source), annotationNode).handle();
+	}
+}
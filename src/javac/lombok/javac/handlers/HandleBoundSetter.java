@@ -121,7 +121,8 @@ public class HandleBoundSetter extends JavacAnnotationHandler<BoundSetter> {
 				if (boundSetter == null) return false;
 				return needsToBeVetoable ? (boundSetter.vetoable() || boundSetter.throwVetoException()) : true;
 			}
-		}.handle(annotationInstance.value(), annotationInstance.vetoable(), annotationInstance.throwVetoException());
+		}.handle(annotationInstance.value(), annotationInstance.vetoable(), annotationInstance.throwVetoException(), annotationInstance.dispatcher(), annotationInstance.coalesce(),
+				annotationInstance.indexed());
 		deleteAnnotationIfNeccessary(annotationNode, BoundSetter.class);
 		deleteImport(annotationNode, AccessLevel.class);
 	}
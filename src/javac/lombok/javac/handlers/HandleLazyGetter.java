@@ -46,8 +46,7 @@ public class HandleLazyGetter extends JavacAnnotationHandler<LazyGetter> {
 	public void handle(final AnnotationValues<LazyGetter> annotation, final JCAnnotation ast, final JavacNode annotationNode) {
 		JavacType type = JavacType.typeOf(annotationNode, ast);
 		JavacField field = JavacField.fieldOf(annotationNode, ast);
-		LazyGetter annotationInstance = annotation.getInstance();
-		new LazyGetterHandler<JavacType, JavacField>(type, field, annotationNode).handle(annotationInstance.value());
+		new LazyGetterHandler<JavacType, JavacField>(type, field, annotationNode).handle(annotation.getInstance());
 		deleteAnnotationIfNeccessary(annotationNode, LazyGetter.class);
 		deleteImport(annotationNode, AccessLevel.class);
 	}
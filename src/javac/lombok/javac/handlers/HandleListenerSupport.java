@@ -66,17 +66,31 @@ public class HandleListenerSupport extends JavacAnnotationHandler<ListenerSuppor
 			return;
 		}
 
+		final ListenerSupport listenerSupport = annotation.getInstance();
+		final boolean weak = listenerSupport.weak();
+		final boolean async = listenerSupport.asyncExecutor().length() > 0;
+		final boolean instrument = listenerSupport.instrument();
+		if (async && (listenerSupport.queueCapacity() < 1)) {
+			annotationNode.addError(String.format("@%s(queueCapacity) must be positive.", ListenerSupport.class.getName()));
+			return;
+		}
+		if (async && (listenerSupport.batchSize() < 0)) {
+			annotationNode.addError(String.format("@%s(batchSize) must not be negative.", ListenerSupport.class.getName()));
+			return;
+		}
 		List<Object> listenerInterfaces = annotation.getActualExpressions("value");
 		if (listenerInterfaces.isEmpty()) {
 			annotationNode.addError(String.format("@%s has no effect since no interface types were specified.", ListenerSupport.class.getName()));
 			return;
 		}
+		if (async) handler.addEventQueue(type, listenerSupport.asyncExecutor(), listenerSupport.queueCapacity(), listenerSupport.batchSize());
+		if (instrument) handler.addListenerStatistics(type);
 		List<TypeSymbol> resolvedInterfaces = resolveInterfaces(annotationNode, ListenerSupport.class, listenerInterfaces);
 		for (TypeSymbol interfaze : resolvedInterfaces) {
-			handler.addListenerField(type, interfaze);
-			handler.addAddListenerMethod(type, interfaze);
-			handler.addRemoveListenerMethod(type, interfaze);
-			addFireListenerMethods(type, interfaze);
+			handler.addListenerField(type, interfaze, weak);
+			handler.addAddListenerMethod(type, interfaze, weak);
+			handler.addRemoveListenerMethod(type, interfaze, weak);
+			addFireListenerMethods(type, interfaze, weak, async, instrument);
 		}
 
 		type.editor().rebuild();
@@ -103,18 +117,18 @@ public class HandleListenerSupport extends JavacAnnotationHandler<ListenerSuppor
 		return resolvedInterfaces;
 	}
 
-	private void addFireListenerMethods(final JavacType type, final TypeSymbol interfaze) {
-		addAllFireListenerMethods(type, interfaze, interfaze);
+	private void addFireListenerMethods(final JavacType type, final TypeSymbol interfaze, final boolean weak, final boolean async, final boolean instrument) {
+		addAllFireListenerMethods(type, interfaze, interfaze, weak, async, instrument);
 	}
 
-	private void addAllFireListenerMethods(final JavacType type, final TypeSymbol interfaze, final TypeSymbol superInterfaze) {
+	private void addAllFireListenerMethods(final JavacType type, final TypeSymbol interfaze, final TypeSymbol superInterfaze, final boolean weak, final boolean async, final boolean instrument) {
 		for (Symbol member : superInterfaze.getEnclosedElements()) {
 			if (member.getKind() != ElementKind.METHOD) continue;
-			handler.addFireListenerMethod(type, interfaze, (MethodSymbol) member);
+			handler.addFireListenerMethod(type, interfaze, (MethodSymbol) member, weak, async, instrument);
 		}
 		ClassType superInterfazeType = (ClassType) superInterfaze.type;
 		if (superInterfazeType.interfaces_field != null) for (Type iface : superInterfazeType.interfaces_field) {
-			addAllFireListenerMethods(type, interfaze, iface.asElement());
+			addAllFireListenerMethods(type, interfaze, iface.asElement(), weak, async, instrument);
 		}
 	}
 
@@ -25,8 +25,15 @@ public class HandleObservableAttribute extends JavacAnnotationHandler<Observable
 		final JavacMethod method = JavacMethod.methodOf(annotationNode, ast);
 		final JavacField field = JavacField.fieldOf(annotationNode, ast);
 		final boolean staticField = !"false".equals(annotation.getRawExpression("staticField"));
+		final boolean specializePrimitives = "true".equals(annotation.getRawExpression("specializePrimitives"));
+		final boolean lazyListeners = "true".equals(annotation.getRawExpression("lazyListeners"));
+		final ObservableAttribute.ChangeCheck changeCheck = annotation.getInstance().changeCheck();
+		final boolean batchChanges = "true".equals(annotation.getRawExpression("batchChanges"));
+		final boolean trackDirty = "true".equals(annotation.getRawExpression("trackDirty"));
+		final String asyncExecutor = annotation.getInstance().asyncExecutor();
+		final boolean weakListeners = "true".equals(annotation.getRawExpression("weakListeners"));
 		
-		new AttributeHandler<JavacType, JavacMethod, JavacField>(type, method, field, annotationNode, true, staticField).handle();
+		new AttributeHandler<JavacType, JavacMethod, JavacField>(type, method, field, annotationNode, true, staticField, specializePrimitives, lazyListeners, changeCheck, batchChanges, trackDirty, asyncExecutor, weakListeners).handle();
 		deleteAnnotationIfNeccessary(annotationNode, ObservableAttribute.class);
 		deleteImport(annotationNode, AccessLevel.class);
 	}
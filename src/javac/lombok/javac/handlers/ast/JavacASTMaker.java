@@ -365,7 +365,7 @@ public final class JavacASTMaker implements lombok.ast.ASTVisitor<JCTree, Void>
 		final JCModifiers mods = setGeneratedBy(M(node).Modifiers(flagsFor(node.getModifiers()), build(node.getAnnotations(), JCAnnotation.class)), source);
 		List<JCStatement> statements = build(node.getStatements(), JCStatement.class);
 		if (node.implicitSuper()) {
-			statements = statements.prepend(build(Call("super"), JCStatement.class));
+			statements = statements.prepend(build(Call("super").withArguments(node.getSuperArgs()), JCStatement.class));
 		}
 		final List<JCTypeParameter> typarams = build(node.getTypeParameters());
 		final List<JCVariableDecl> params = build(node.getArguments());
@@ -763,6 +763,13 @@ public final class JavacASTMaker implements lombok.ast.ASTVisitor<JCTree, Void>
 			// TODO types with wildcard type parameters throw a compiler exception
 			final JCExpression literal = setGeneratedBy(m.ClassLiteral(type), source);
 			return literal;
+		} else if (typeName.endsWith("[]")) {
+			int dims = 0;
+			while (typeName.endsWith("[]")) {
+				typeName = typeName.substring(0, typeName.length() - 2);
+				dims++;
+			}
+			return setGeneratedBy(m.Select(build(Type(typeName).withDimensions(dims), JCExpression.class), name("class")), source);
 		} else {
 //			System.out.println("wrapped: null, using typename");
 			final JCExpression literal = setGeneratedBy(m.ClassLiteral(new ClassSymbol(0, name(typeName), null)), source);
@@ -40,6 +40,7 @@ import lombok.javac.Javac;
 
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+import com.sun.tools.javac.tree.JCTree.JCArrayTypeTree;
 import com.sun.tools.javac.tree.JCTree.JCAssign;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
@@ -131,7 +132,8 @@ public final class JavacField implements lombok.ast.IField<JavacType, JavacNode,
 	}
 
 	public lombok.ast.TypeRef type() {
-		return Type(get().vartype);
+		final JCExpression type = get().vartype;
+		return Type(type, As.string(type instanceof JCTypeApply ? ((JCTypeApply) type).clazz : type));
 	}
 
 	public lombok.ast.TypeRef boxedType() {
@@ -178,6 +180,14 @@ public final class JavacField implements lombok.ast.IField<JavacType, JavacNode,
 		return typeArguments;
 	}
 
+	public lombok.ast.TypeRef componentType() {
+		final JCExpression type = get().vartype;
+		if (type instanceof JCArrayTypeTree) {
+			return Type(As.string(((JCArrayTypeTree) type).elemtype));
+		}
+		return null;
+	}
+
 	public List<lombok.ast.Annotation> annotations() {
 		return annotations(null);
 	}
@@ -86,6 +86,10 @@ public final class JavacFieldEditor implements lombok.ast.IFieldEditor<JCTree> {
 		get().mods.flags &= ~Flags.FINAL;
 	}
 
+	public void makeVolatile() {
+		get().mods.flags |= VOLATILE;
+	}
+
 	@Override
 	public String toString() {
 		return get().toString();
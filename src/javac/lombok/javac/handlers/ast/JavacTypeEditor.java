@@ -38,7 +38,7 @@ import lombok.javac.JavacNode;
 import lombok.javac.handlers.Javac;
 import lombok.javac.handlers.JavacHandlerUtil;
 
-public final class JavacTypeEditor implements lombok.ast.ITypeEditor<JavacMethod, JCTree, JCClassDecl, JCMethodDecl> {
+public final class JavacTypeEditor implements lombok.ast.ITypeEditor<JavacMethod, JavacField, JCTree, JCClassDecl, JCMethodDecl> {
 	private final JavacType type;
 	private final JavacASTMaker builder;
 
@@ -125,6 +125,18 @@ public final class JavacTypeEditor implements lombok.ast.ITypeEditor<JavacMethod
 		node().removeChild(method.node());
 	}
 
+	public void removeField(final JavacField field) {
+		JCClassDecl type = get();
+		ListBuffer<JCTree> defs = ListBuffer.lb();
+		for (JCTree def : type.defs) {
+			if (!def.equals(field.get())) {
+				defs.append(def);
+			}
+		}
+		type.defs = defs.toList();
+		node().removeChild(field.node());
+	}
+
 	public void makeEnum() {
 		get().mods.flags |= ENUM;
 	}
@@ -0,0 +1,49 @@
+class AttributeInstance<T> {
+	private static final com.doctusoft.common.core.bean.Attribute<?, ?> $item$attribute = $item$createAttribute();
+	@java.lang.SuppressWarnings("unchecked")
+	public final com.doctusoft.common.core.bean.Attribute<AttributeInstance, T> _item = (com.doctusoft.common.core.bean.Attribute<AttributeInstance, T>)$item$attribute;
+	
+	private T item;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setItem(final T item) {
+		this.item = item;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public T getItem() {
+		return item;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static <T> com.doctusoft.common.core.bean.Attribute<AttributeInstance, T> $item$createAttribute() {
+		return new com.doctusoft.common.core.bean.Attribute<AttributeInstance, T>(){
+			
+			@java.lang.Override
+			public T getValue(final AttributeInstance instance) {
+				return (T)instance.getItem();
+			}
+			
+			@java.lang.Override
+			public void setValue(final AttributeInstance instance, final T value) {
+				instance.setItem(value);
+			}
+			
+			@java.lang.Override
+			public Class<AttributeInstance> getParent() {
+				return AttributeInstance.class;
+			}
+			
+			@java.lang.Override
+			public String getName() {
+				return "item";
+			}
+			
+			@java.lang.Override
+			@java.lang.SuppressWarnings("unchecked")
+			public Class<T> getType() {
+				return null;
+			}
+		};
+	}
+}
@@ -0,0 +1,66 @@
+class AttributePathPlain {
+	public static final com.doctusoft.common.core.bean.Attribute<Order, String> _customerName = new com.doctusoft.common.core.bean.Attribute<Order, String>(){
+		
+		@java.lang.Override
+		public String getValue(final Order instance) {
+			return getCustomerName(instance);
+		}
+		
+		@java.lang.Override
+		public void setValue(final Order instance, final String value) {
+			setCustomerName(instance, value);
+		}
+		
+		@java.lang.Override
+		public Class<Order> getParent() {
+			return Order.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "customer.name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+	};
+	
+	static class Order {
+		private Customer customer;
+		
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+	
+	static class Customer {
+		private String name;
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static String getCustomerName(Order order) {
+		if (order == null) return null;
+		final Customer $step0 = order.getCustomer();
+		if ($step0 == null) return null;
+		return $step0.getName();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static void setCustomerName(final Order order, final String value) {
+		if (order == null) return;
+		final Customer $step0 = order.getCustomer();
+		if ($step0 == null) return;
+		$step0.setName(value);
+	}
+}
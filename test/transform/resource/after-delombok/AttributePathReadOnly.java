@@ -0,0 +1,54 @@
+class AttributePathReadOnly {
+	public static final com.doctusoft.common.core.bean.Attribute<Order, Boolean> _customerActive = new com.doctusoft.common.core.bean.Attribute<Order, Boolean>(){
+		
+		@java.lang.Override
+		public Boolean getValue(final Order instance) {
+			return getCustomerActive(instance);
+		}
+		
+		@java.lang.Override
+		public void setValue(final Order instance, final Boolean value) {
+			throw new java.lang.UnsupportedOperationException("customer.active is read-only");
+		}
+		
+		@java.lang.Override
+		public Class<Order> getParent() {
+			return Order.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "customer.active";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<Boolean> getType() {
+			return (java.lang.Class)Boolean.class;
+		}
+	};
+	
+	static class Order {
+		private Customer customer;
+		
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+	
+	static class Customer {
+		private Boolean active;
+		
+		public Boolean getActive() {
+			return active;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static Boolean getCustomerActive(Order order) {
+		if (order == null) return null;
+		final Customer $step0 = order.getCustomer();
+		if ($step0 == null) return null;
+		return $step0.getActive();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+class AttributeRegistryCopy {
+	public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, Long> _id = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, Long>(){
+		
+		@java.lang.Override
+		public Long getValue(final AttributeRegistryCopy instance) {
+			return (long)instance.getId();
+		}
+		
+		@java.lang.Override
+		public void setValue(final AttributeRegistryCopy instance, final Long value) {
+			instance.setId(value);
+		}
+		
+		@java.lang.Override
+		public Class<AttributeRegistryCopy> getParent() {
+			return AttributeRegistryCopy.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "id";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<Long> getType() {
+			return (java.lang.Class)Long.class;
+		}
+	};
+	public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, String> _name = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, String>(){
+		
+		@java.lang.Override
+		public String getValue(final AttributeRegistryCopy instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final AttributeRegistryCopy instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<AttributeRegistryCopy> getParent() {
+			return AttributeRegistryCopy.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+	};
+	
+	private final long id;
+	
+	private String name;
+	
+	AttributeRegistryCopy(long id) {
+		super();
+		this.id = id;
+	}
+	
+	public long getId() {
+		return id;
+	}
+	
+	public void setId(long id) {
+		throw new UnsupportedOperationException();
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public void setName(String name) {
+		this.name = name;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static final class $AttributeRegistry {
+		private static final com.doctusoft.common.core.bean.Attribute<?, ?>[] ATTRIBUTES = new com.doctusoft.common.core.bean.Attribute<?, ?>[]{AttributeRegistryCopy._id, AttributeRegistryCopy._name};
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static int attributeCount() {
+		return 2;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static com.doctusoft.common.core.bean.Attribute<?, ?> attributeAt(final int index) {
+		return $AttributeRegistry.ATTRIBUTES[index];
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static int attributeIndex(final java.lang.String name) {
+		switch (name.hashCode() & 2147483647) {
+		case 3355: 
+			if ("id".equals(name)) return 0;
+			break;
+		case 3373707: 
+			if ("name".equals(name)) return 1;
+			break;
+		}
+		return -1;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static com.doctusoft.common.core.bean.Attribute<?, ?> attribute(final java.lang.String name) {
+		final int index = attributeIndex(name);
+		if (index < 0) return null;
+		return $AttributeRegistry.ATTRIBUTES[index];
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static void copyAttributes(final AttributeRegistryCopy from, final AttributeRegistryCopy to) {
+		to.name = from.name;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static void copyAttributes(final AttributeRegistryCopy from, final AttributeRegistryCopy to, final long mask) {
+		if ((mask & 1L << 1) != 0L) to.name = from.name;
+	}
+}
@@ -0,0 +1,125 @@
+class AttributeRegistryPlain {
+	public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, String> _name = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, String>(){
+		
+		@java.lang.Override
+		public String getValue(final AttributeRegistryPlain instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final AttributeRegistryPlain instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<AttributeRegistryPlain> getParent() {
+			return AttributeRegistryPlain.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+	};
+	public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, Integer> _count = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, Integer>(){
+		
+		@java.lang.Override
+		public Integer getValue(final AttributeRegistryPlain instance) {
+			return (int)instance.getCount();
+		}
+		
+		@java.lang.Override
+		public void setValue(final AttributeRegistryPlain instance, final Integer value) {
+			instance.setCount(value);
+		}
+		
+		@java.lang.Override
+		public Class<AttributeRegistryPlain> getParent() {
+			return AttributeRegistryPlain.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "count";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<Integer> getType() {
+			return (java.lang.Class)Integer.class;
+		}
+	};
+	
+	private String name;
+	
+	private int count;
+	
+	public String getName() {
+		return name;
+	}
+	
+	public void setName(String name) {
+		this.name = name;
+	}
+	
+	public int getCount() {
+		return count;
+	}
+	
+	public void setCount(int count) {
+		this.count = count;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static final class $AttributeRegistry {
+		private static final com.doctusoft.common.core.bean.Attribute<?, ?>[] ATTRIBUTES = new com.doctusoft.common.core.bean.Attribute<?, ?>[]{AttributeRegistryPlain._name, AttributeRegistryPlain._count};
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static int attributeCount() {
+		return 2;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static com.doctusoft.common.core.bean.Attribute<?, ?> attributeAt(final int index) {
+		return $AttributeRegistry.ATTRIBUTES[index];
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static int attributeIndex(final java.lang.String name) {
+		switch (name.hashCode() & 2147483647) {
+		case 3373707: 
+			if ("name".equals(name)) return 0;
+			break;
+		case 94851343: 
+			if ("count".equals(name)) return 1;
+			break;
+		}
+		return -1;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static com.doctusoft.common.core.bean.Attribute<?, ?> attribute(final java.lang.String name) {
+		final int index = attributeIndex(name);
+		if (index < 0) return null;
+		return $AttributeRegistry.ATTRIBUTES[index];
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static void copyAttributes(final AttributeRegistryPlain from, final AttributeRegistryPlain to) {
+		to.name = from.name;
+		to.count = from.count;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static void copyAttributes(final AttributeRegistryPlain from, final AttributeRegistryPlain to, final long mask) {
+		if ((mask & 1L << 0) != 0L) to.name = from.name;
+		if ((mask & 1L << 1) != 0L) to.count = from.count;
+	}
+}
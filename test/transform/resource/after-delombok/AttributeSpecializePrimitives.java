@@ -0,0 +1,56 @@
+class AttributeSpecializePrimitives {
+	public static final $CountAttribute _count = new $CountAttribute();
+	
+	private int count;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setCount(final int count) {
+		this.count = count;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public int getCount() {
+		return count;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static final class $CountAttribute implements com.doctusoft.common.core.bean.Attribute<AttributeSpecializePrimitives, Integer> {
+		
+		private $CountAttribute() {
+		}
+		
+		@java.lang.Override
+		public Integer getValue(final AttributeSpecializePrimitives instance) {
+			return (int)instance.getCount();
+		}
+		
+		@java.lang.Override
+		public void setValue(final AttributeSpecializePrimitives instance, final Integer value) {
+			instance.setCount(value);
+		}
+		
+		@java.lang.Override
+		public Class<AttributeSpecializePrimitives> getParent() {
+			return AttributeSpecializePrimitives.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "count";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<Integer> getType() {
+			return (java.lang.Class)Integer.class;
+		}
+		
+		public int getInt(final AttributeSpecializePrimitives instance) {
+			return instance.getCount();
+		}
+		
+		public void setInt(final AttributeSpecializePrimitives instance, final int value) {
+			instance.setCount(value);
+		}
+	}
+}
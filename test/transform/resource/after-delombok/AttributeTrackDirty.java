@@ -0,0 +1,88 @@
+class AttributeTrackDirty {
+	private transient long $dirty0;
+	public static final com.doctusoft.common.core.bean.Attribute<AttributeTrackDirty, String> _name = new com.doctusoft.common.core.bean.Attribute<AttributeTrackDirty, String>(){
+		
+		@java.lang.Override
+		public String getValue(final AttributeTrackDirty instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final AttributeTrackDirty instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<AttributeTrackDirty> getParent() {
+			return AttributeTrackDirty.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+	};
+	
+	private String name;
+	
+	private boolean dirty;
+	
+	public boolean isDirty() {
+		return dirty;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $name$markDirty() {
+		this.$dirty0 = this.$dirty0 | 1L << 0;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public boolean isDirty(final com.doctusoft.common.core.bean.Attribute<?, ?> attribute) {
+		return this.$isDirty(attribute);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public java.util.List<com.doctusoft.common.core.bean.Attribute<?, ?>> dirtyAttributes() {
+		return this.$dirtyAttributes();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void clearDirty() {
+		this.$clearDirty();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private boolean $isDirty(final com.doctusoft.common.core.bean.Attribute<?, ?> attribute) {
+		if (attribute == _name) return (this.$dirty0 & 1L << 0) != 0L;
+		return false;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private java.util.List<com.doctusoft.common.core.bean.Attribute<?, ?>> $dirtyAttributes() {
+		final java.util.List<com.doctusoft.common.core.bean.Attribute<?, ?>> attributes = new java.util.ArrayList<com.doctusoft.common.core.bean.Attribute<?, ?>>();
+		if ((this.$dirty0 & 1L << 0) != 0L) attributes.add(_name);
+		return attributes;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $clearDirty() {
+		this.$dirty0 = 0L;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(final String name) {
+		this.name = name;
+		this.$name$markDirty();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getName() {
+		return name;
+	}
+}
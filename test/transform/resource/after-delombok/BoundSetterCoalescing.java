@@ -0,0 +1,93 @@
+class BoundSetterCoalescing {
+	private volatile transient java.beans.PropertyChangeSupport $propertyChangeSupport;
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterCoalescing, java.beans.PropertyChangeSupport> $PROPERTY_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterCoalescing.class, java.beans.PropertyChangeSupport.class, "$propertyChangeSupport");
+	private transient int $updateDepth;
+	private transient java.util.Map<java.lang.String, java.lang.Object[]> $pendingChanges;
+	public static final java.lang.String PROP_COUNT = "count";
+	public static final java.lang.String PROP_NAME = "name";
+	
+	private int count;
+	private String name;
+	
+	@java.lang.SuppressWarnings("all")
+	private java.beans.PropertyChangeSupport getPropertyChangeSupport() {
+		if (this.$propertyChangeSupport == null) {
+			$PROPERTY_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
+		}
+		return this.$propertyChangeSupport;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		getPropertyChangeSupport().addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		getPropertyChangeSupport().removePropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+		if ($support != null) $support.firePropertyChange(propertyName, oldValue, newValue);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void beginUpdate() {
+		this.$updateDepth = this.$updateDepth + 1;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void endUpdate() {
+		if (this.$updateDepth == 0) throw new java.lang.IllegalStateException("endUpdate() without beginUpdate()");
+		this.$updateDepth = this.$updateDepth - 1;
+		if (this.$updateDepth > 0) return;
+		final java.util.Map<java.lang.String, java.lang.Object[]> $changes = this.$pendingChanges;
+		if ($changes == null) return;
+		this.$pendingChanges = null;
+		java.lang.RuntimeException $failure = null;
+		for (final java.util.Map.Entry<java.lang.String, java.lang.Object[]> $change : $changes.entrySet()) {
+			try {
+				firePropertyChange($change.getKey(), $change.getValue()[0], $change.getValue()[1]);
+			} catch (final java.lang.RuntimeException $e) {
+				if ($failure == null) $failure = $e;
+			}
+		}
+		if ($failure != null) throw $failure;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		if (this.$updateDepth == 0) {
+			firePropertyChange(propertyName, oldValue, newValue);
+			return;
+		}
+		if (this.$pendingChanges == null) this.$pendingChanges = new java.util.LinkedHashMap<java.lang.String, java.lang.Object[]>();
+		final java.lang.Object[] $change = this.$pendingChanges.get(propertyName);
+		if ($change == null) this.$pendingChanges.put(propertyName, new java.lang.Object[]{oldValue, newValue}); else $change[1] = newValue;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setCount(final int count) {
+		if (this.$propertyChangeSupport == null) {
+			this.count = count;
+			return;
+		}
+		final int $old = this.count;
+		if ($old == count) return;
+		this.count = count;
+		$firePropertyChange(PROP_COUNT, $old, count);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(final String name) {
+		if (this.$propertyChangeSupport == null) {
+			this.name = name;
+			return;
+		}
+		final String $old = this.name;
+		this.name = name;
+		$firePropertyChange(PROP_NAME, $old, name);
+	}
+}
\ No newline at end of file
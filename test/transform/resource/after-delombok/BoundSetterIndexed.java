@@ -0,0 +1,89 @@
+import java.util.List;
+
+class BoundSetterIndexed {
+	private volatile transient java.beans.PropertyChangeSupport $propertyChangeSupport;
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterIndexed, java.beans.PropertyChangeSupport> $PROPERTY_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterIndexed.class, java.beans.PropertyChangeSupport.class, "$propertyChangeSupport");
+	public static final java.lang.String PROP_NAMES = "names";
+	public static final java.lang.String PROP_VALUES = "values";
+	
+	private String[] names;
+	private List<Integer> values;
+	
+	@java.lang.SuppressWarnings("all")
+	private java.beans.PropertyChangeSupport getPropertyChangeSupport() {
+		if (this.$propertyChangeSupport == null) {
+			$PROPERTY_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
+		}
+		return this.$propertyChangeSupport;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		getPropertyChangeSupport().addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		getPropertyChangeSupport().removePropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+		if ($support != null) $support.firePropertyChange(propertyName, oldValue, newValue);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void fireIndexedPropertyChange(final java.lang.String propertyName, final int index, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+		if ($support != null) $support.fireIndexedPropertyChange(propertyName, index, oldValue, newValue);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setNames(final String[] names) {
+		if (this.$propertyChangeSupport == null) {
+			this.names = names;
+			return;
+		}
+		final String[] $old = this.names;
+		this.names = names;
+		firePropertyChange(PROP_NAMES, $old, names);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setNames(final int index, final String names) {
+		final String $old = this.names[index];
+		this.names[index] = names;
+		fireIndexedPropertyChange(PROP_NAMES, index, $old, names);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setValues(final List<Integer> values) {
+		if (this.$propertyChangeSupport == null) {
+			this.values = values;
+			return;
+		}
+		final List<Integer> $old = this.values;
+		this.values = values;
+		firePropertyChange(PROP_VALUES, $old, values);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setValues(final int index, final Integer values) {
+		final Integer $old = this.values.set(index, values);
+		fireIndexedPropertyChange(PROP_VALUES, index, $old, values);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addToValues(final Integer values) {
+		this.values.add(values);
+		fireIndexedPropertyChange(PROP_VALUES, this.values.size() - 1, null, values);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public Integer removeFromValues(final int index) {
+		final Integer $old = this.values.remove(index);
+		fireIndexedPropertyChange(PROP_VALUES, index, $old, null);
+		return $old;
+	}
+}
\ No newline at end of file
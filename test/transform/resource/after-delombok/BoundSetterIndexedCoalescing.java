@@ -0,0 +1,122 @@
+import java.util.List;
+
+class BoundSetterIndexedCoalescing {
+	private volatile transient java.beans.PropertyChangeSupport $propertyChangeSupport;
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterIndexedCoalescing, java.beans.PropertyChangeSupport> $PROPERTY_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterIndexedCoalescing.class, java.beans.PropertyChangeSupport.class, "$propertyChangeSupport");
+	private transient int $updateDepth;
+	private transient java.util.Map<java.lang.String, java.lang.Object[]> $pendingChanges;
+	public static final java.lang.String PROP_VALUES = "values";
+	public static final java.lang.String PROP_PLAY_LIST = "playList";
+	
+	private List<Integer> values;
+	private PlayList playList;
+	
+	static class PlayList {
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private java.beans.PropertyChangeSupport getPropertyChangeSupport() {
+		if (this.$propertyChangeSupport == null) {
+			$PROPERTY_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
+		}
+		return this.$propertyChangeSupport;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		getPropertyChangeSupport().addPropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		getPropertyChangeSupport().removePropertyChangeListener(listener);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+		if ($support != null) $support.firePropertyChange(propertyName, oldValue, newValue);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void beginUpdate() {
+		this.$updateDepth = this.$updateDepth + 1;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void endUpdate() {
+		if (this.$updateDepth == 0) throw new java.lang.IllegalStateException("endUpdate() without beginUpdate()");
+		this.$updateDepth = this.$updateDepth - 1;
+		if (this.$updateDepth > 0) return;
+		final java.util.Map<java.lang.String, java.lang.Object[]> $changes = this.$pendingChanges;
+		if ($changes == null) return;
+		this.$pendingChanges = null;
+		java.lang.RuntimeException $failure = null;
+		for (final java.util.Map.Entry<java.lang.String, java.lang.Object[]> $change : $changes.entrySet()) {
+			try {
+				firePropertyChange($change.getKey(), $change.getValue()[0], $change.getValue()[1]);
+			} catch (final java.lang.RuntimeException $e) {
+				if ($failure == null) $failure = $e;
+			}
+		}
+		if ($failure != null) throw $failure;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		if (this.$updateDepth == 0) {
+			firePropertyChange(propertyName, oldValue, newValue);
+			return;
+		}
+		if (this.$pendingChanges == null) this.$pendingChanges = new java.util.LinkedHashMap<java.lang.String, java.lang.Object[]>();
+		final java.lang.Object[] $change = this.$pendingChanges.get(propertyName);
+		if ($change == null) this.$pendingChanges.put(propertyName, new java.lang.Object[]{oldValue, newValue}); else $change[1] = newValue;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void fireIndexedPropertyChange(final java.lang.String propertyName, final int index, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+		if ($support != null) $support.fireIndexedPropertyChange(propertyName, index, oldValue, newValue);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setValues(final List<Integer> values) {
+		if (this.$propertyChangeSupport == null) {
+			this.values = values;
+			return;
+		}
+		final List<Integer> $old = this.values;
+		this.values = values;
+		$firePropertyChange(PROP_VALUES, $old, values);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setValues(final int index, final Integer values) {
+		final Integer $old = this.values.set(index, values);
+		if (this.$updateDepth == 0) fireIndexedPropertyChange(PROP_VALUES, index, $old, values); else $firePropertyChange(PROP_VALUES, null, this.values);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addToValues(final Integer values) {
+		this.values.add(values);
+		if (this.$updateDepth == 0) fireIndexedPropertyChange(PROP_VALUES, this.values.size() - 1, null, values); else $firePropertyChange(PROP_VALUES, null, this.values);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public Integer removeFromValues(final int index) {
+		final Integer $old = this.values.remove(index);
+		if (this.$updateDepth == 0) fireIndexedPropertyChange(PROP_VALUES, index, $old, null); else $firePropertyChange(PROP_VALUES, null, this.values);
+		return $old;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setPlayList(final PlayList playList) {
+		if (this.$propertyChangeSupport == null) {
+			this.playList = playList;
+			return;
+		}
+		final PlayList $old = this.playList;
+		this.playList = playList;
+		$firePropertyChange(PROP_PLAY_LIST, $old, playList);
+	}
+}
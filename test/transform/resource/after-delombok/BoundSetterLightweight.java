@@ -0,0 +1,114 @@
+class BoundSetterLightweight {
+	private volatile transient java.lang.Object[] $propertyChangeListeners;
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterLightweight, java.lang.Object[]> $PROPERTY_CHANGE_LISTENERS = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterLightweight.class, java.lang.Object[].class, "$propertyChangeListeners");
+	public static final java.lang.String PROP_I = "i";
+	public static final java.lang.String PROP_S = "s";
+	
+	int i;
+	String s;
+	
+	@java.lang.SuppressWarnings("all")
+	private static java.lang.Object[] $withPropertyChangeListener(final java.lang.Object[] listeners, final java.lang.String propertyName, final java.beans.PropertyChangeListener listener) {
+		if (listeners == null) return new java.lang.Object[]{propertyName, listener};
+		final java.lang.Object[] updated = java.util.Arrays.copyOf(listeners, listeners.length + 2);
+		updated[listeners.length] = propertyName;
+		updated[listeners.length + 1] = listener;
+		return updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static java.lang.Object[] $withoutPropertyChangeListener(final java.lang.Object[] listeners, final java.lang.String propertyName, final java.beans.PropertyChangeListener listener) {
+		if (listeners == null) return null;
+		int i = 0;
+		while (i < listeners.length) {
+			if (listener.equals(listeners[i + 1]) && (propertyName == null && listeners[i] == null || propertyName != null && propertyName.equals(listeners[i]))) {
+				if (listeners.length == 2) return null;
+				final java.lang.Object[] updated = new java.lang.Object[listeners.length - 2];
+				java.lang.System.arraycopy(listeners, 0, updated, 0, i);
+				java.lang.System.arraycopy(listeners, i + 2, updated, i, listeners.length - i - 2);
+				return updated;
+			}
+			i = i + 2;
+		}
+		return listeners;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (listener == null) return;
+		while (true) {
+			final java.lang.Object[] current = this.$propertyChangeListeners;
+			final java.lang.Object[] updated = $withPropertyChangeListener(current, null, listener);
+			if (updated == current || $PROPERTY_CHANGE_LISTENERS.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addPropertyChangeListener(final java.lang.String propertyName, final java.beans.PropertyChangeListener listener) {
+		if (propertyName == null || listener == null) return;
+		while (true) {
+			final java.lang.Object[] current = this.$propertyChangeListeners;
+			final java.lang.Object[] updated = $withPropertyChangeListener(current, propertyName, listener);
+			if (updated == current || $PROPERTY_CHANGE_LISTENERS.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+		if (listener == null) return;
+		while (true) {
+			final java.lang.Object[] current = this.$propertyChangeListeners;
+			final java.lang.Object[] updated = $withoutPropertyChangeListener(current, null, listener);
+			if (updated == current || $PROPERTY_CHANGE_LISTENERS.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removePropertyChangeListener(final java.lang.String propertyName, final java.beans.PropertyChangeListener listener) {
+		if (propertyName == null || listener == null) return;
+		while (true) {
+			final java.lang.Object[] current = this.$propertyChangeListeners;
+			final java.lang.Object[] updated = $withoutPropertyChangeListener(current, propertyName, listener);
+			if (updated == current || $PROPERTY_CHANGE_LISTENERS.compareAndSet(this, current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+		final java.lang.Object[] $listeners = this.$propertyChangeListeners;
+		if ($listeners == null) return;
+		if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+		java.beans.PropertyChangeEvent $event = null;
+		int $i = 0;
+		while ($i < $listeners.length) {
+			if ($listeners[$i] == null || $listeners[$i].equals(propertyName)) {
+				if ($event == null) $event = new java.beans.PropertyChangeEvent(this, propertyName, oldValue, newValue);
+				((java.beans.PropertyChangeListener)$listeners[$i + 1]).propertyChange($event);
+			}
+			$i = $i + 2;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setI(final int i) {
+		if (this.$propertyChangeListeners == null) {
+			this.i = i;
+			return;
+		}
+		final int $old = this.i;
+		if ($old == i) return;
+		this.i = i;
+		firePropertyChange(PROP_I, $old, i);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setS(final String s) {
+		if (this.$propertyChangeListeners == null) {
+			this.s = s;
+			return;
+		}
+		final String $old = this.s;
+		this.s = s;
+		firePropertyChange(PROP_S, $old, s);
+	}
+}
\ No newline at end of file
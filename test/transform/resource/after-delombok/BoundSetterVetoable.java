@@ -1,8 +1,8 @@
 class BoundSetterVetoable {
 	private volatile transient java.beans.PropertyChangeSupport $propertyChangeSupport;
-	private final java.lang.Object[] $propertyChangeSupportLock = new java.lang.Object[0];
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterVetoable, java.beans.PropertyChangeSupport> $PROPERTY_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterVetoable.class, java.beans.PropertyChangeSupport.class, "$propertyChangeSupport");
 	private volatile transient java.beans.VetoableChangeSupport $vetoableChangeSupport;
-	private final java.lang.Object[] $vetoableChangeSupportLock = new java.lang.Object[0];
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterVetoable, java.beans.VetoableChangeSupport> $VETOABLE_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterVetoable.class, java.beans.VetoableChangeSupport.class, "$vetoableChangeSupport");
 	public static final java.lang.String PROP_NAME = "name";
 	public static final java.lang.String PROP_SURNAME = "surname";
 	
@@ -12,11 +12,7 @@ class BoundSetterVetoable {
 	@java.lang.SuppressWarnings("all")
 	private java.beans.PropertyChangeSupport getPropertyChangeSupport() {
 		if (this.$propertyChangeSupport == null) {
-			synchronized (this.$propertyChangeSupportLock) {
-				if (this.$propertyChangeSupport == null) {
-					this.$propertyChangeSupport = new java.beans.PropertyChangeSupport(this);
-				}
-			}
+			$PROPERTY_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
 		}
 		return this.$propertyChangeSupport;
 	}
@@ -33,17 +29,14 @@ class BoundSetterVetoable {
 	
 	@java.lang.SuppressWarnings("all")
 	public void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
-		getPropertyChangeSupport().firePropertyChange(propertyName, oldValue, newValue);
+		final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+		if ($support != null) $support.firePropertyChange(propertyName, oldValue, newValue);
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	private java.beans.VetoableChangeSupport getVetoableChangeSupport() {
 		if (this.$vetoableChangeSupport == null) {
-			synchronized (this.$vetoableChangeSupportLock) {
-				if (this.$vetoableChangeSupport == null) {
-					this.$vetoableChangeSupport = new java.beans.VetoableChangeSupport(this);
-				}
-			}
+			$VETOABLE_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.VetoableChangeSupport(this));
 		}
 		return this.$vetoableChangeSupport;
 	}
@@ -0,0 +1,63 @@
+class LazyGetterInvalidate {
+	private volatile boolean $totalInitialized;
+
+	private int total;
+
+	private volatile String label;
+
+	private int computeTotal() {
+		return 42;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public int getTotal() {
+		if (!this.$totalInitialized) {
+			synchronized (this) {
+				if (!this.$totalInitialized) {
+					this.total = computeTotal();
+					this.$totalInitialized = true;
+				}
+			}
+		}
+		return this.total;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public void invalidateTotal() {
+		synchronized (this) {
+			this.$totalInitialized = false;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public boolean isTotalComputed() {
+		return this.$totalInitialized;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public String getLabel() {
+		String $value = this.label;
+		if ($value == null) {
+			synchronized (this) {
+				$value = this.label;
+				if ($value == null) {
+					$value = String.valueOf(computeTotal());
+					this.label = $value;
+				}
+			}
+		}
+		return $value;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public void invalidateLabel() {
+		synchronized (this) {
+			this.label = null;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public boolean isLabelComputed() {
+		return this.label != null;
+	}
+}
@@ -0,0 +1,115 @@
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class LazyGetterInvalidateExpiring {
+	private volatile boolean $expiringInitialized;
+	private volatile long $expiringExpiresAt;
+	private volatile boolean $refreshedInitialized;
+	private volatile long $refreshedExpiresAt;
+	private volatile boolean $refreshedRefreshing;
+	private int $refreshedGeneration;
+
+	static class ValueType {
+	}
+
+	private final Executor executor = Executors.newSingleThreadExecutor();
+
+	private volatile ValueType expiring;
+
+	private volatile ValueType refreshed;
+
+	@java.lang.SuppressWarnings("all")
+	public ValueType getExpiring() {
+		if (!this.$expiringInitialized || java.lang.System.nanoTime() - this.$expiringExpiresAt >= 0L) {
+			synchronized (this) {
+				if (!this.$expiringInitialized || java.lang.System.nanoTime() - this.$expiringExpiresAt >= 0L) {
+					this.expiring = new ValueType();
+					this.$expiringExpiresAt = java.lang.System.nanoTime() + 5000000000L;
+					this.$expiringInitialized = true;
+				}
+			}
+		}
+		return this.expiring;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public void invalidateExpiring() {
+		synchronized (this) {
+			this.$expiringInitialized = false;
+			this.expiring = null;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public boolean isExpiringComputed() {
+		return this.$expiringInitialized && java.lang.System.nanoTime() - this.$expiringExpiresAt < 0L;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public ValueType getRefreshed() {
+		if (!this.$refreshedInitialized) {
+			synchronized (this) {
+				if (!this.$refreshedInitialized) {
+					this.refreshed = $computeRefreshed();
+					this.$refreshedExpiresAt = java.lang.System.nanoTime() + 5000000000L;
+					this.$refreshedInitialized = true;
+				}
+			}
+		} else if (java.lang.System.nanoTime() - this.$refreshedExpiresAt >= 0L && !this.$refreshedRefreshing) $refreshRefreshed();
+		return this.refreshed;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	private ValueType $computeRefreshed() {
+		return new ValueType();
+	}
+
+	@java.lang.SuppressWarnings("all")
+	private void $refreshRefreshed() {
+		final int $generation;
+		synchronized (this) {
+			if (this.$refreshedRefreshing) return;
+			this.$refreshedRefreshing = true;
+			$generation = this.$refreshedGeneration;
+		}
+		try {
+			executor.execute(new java.lang.Runnable(){
+				@java.lang.Override
+				public void run() {
+					try {
+						$reloadRefreshed($generation);
+					} finally {
+						$refreshedRefreshing = false;
+					}
+				}
+			});
+		} catch (final java.util.concurrent.RejectedExecutionException $e) {
+			this.$refreshedRefreshing = false;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	private void $reloadRefreshed(final int $generation) {
+		final ValueType $value = $computeRefreshed();
+		synchronized (this) {
+			if (this.$refreshedGeneration != $generation) return;
+			this.refreshed = $value;
+			this.$refreshedExpiresAt = java.lang.System.nanoTime() + 5000000000L;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public void invalidateRefreshed() {
+		synchronized (this) {
+			this.$refreshedInitialized = false;
+			this.refreshed = null;
+			this.$refreshedGeneration = this.$refreshedGeneration + 1;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public boolean isRefreshedComputed() {
+		return this.$refreshedInitialized && java.lang.System.nanoTime() - this.$refreshedExpiresAt < 0L;
+	}
+}
@@ -1,6 +1,5 @@
 class LazyGetterPlain {
 	private volatile boolean $fieldNameInitialized;
-	private final java.lang.Object[] $fieldNameLock = new java.lang.Object[0];
 
 	static class ValueType {
 	}
@@ -10,7 +9,7 @@ class LazyGetterPlain {
 	@java.lang.SuppressWarnings("all")
 	public ValueType getFieldName() {
 		if (!this.$fieldNameInitialized) {
-			synchronized (this.$fieldNameLock) {
+			synchronized (this) {
 				if (!this.$fieldNameInitialized) {
 					this.fieldName = new ValueType();
 					this.$fieldNameInitialized = true;
@@ -0,0 +1,33 @@
+class LazyGetterPublication {
+	private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<LazyGetterPublication, ValueType> $CAS_VALUE = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(LazyGetterPublication.class, ValueType.class, "casValue");
+
+	static class ValueType {
+	}
+
+	private volatile ValueType synchronizedValue;
+
+	private volatile ValueType casValue;
+
+	@java.lang.SuppressWarnings("all")
+	public ValueType getSynchronizedValue() {
+		ValueType $value = this.synchronizedValue;
+		if ($value == null) {
+			synchronized (this) {
+				$value = this.synchronizedValue;
+				if ($value == null) {
+					$value = new ValueType();
+					this.synchronizedValue = $value;
+				}
+			}
+		}
+		return $value;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public ValueType getCasValue() {
+		final ValueType $value = this.casValue;
+		if ($value != null) return $value;
+		$CAS_VALUE.compareAndSet(this, null, new ValueType());
+		return this.casValue;
+	}
+}
@@ -0,0 +1,41 @@
+class LazyGetterReference {
+	private volatile transient java.lang.ref.SoftReference<ValueType> $softReference;
+	private volatile transient java.lang.ref.WeakReference<ValueType> $weakReference;
+
+	static class ValueType {
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public ValueType getSoft() {
+		java.lang.ref.SoftReference<ValueType> $reference = this.$softReference;
+		ValueType $value = null;
+		if ($reference != null) $value = $reference.get();
+		if ($value != null) return $value;
+		synchronized (this) {
+			$reference = this.$softReference;
+			if ($reference != null) $value = $reference.get();
+			if ($value == null) {
+				$value = new ValueType();
+				this.$softReference = new java.lang.ref.SoftReference<ValueType>($value);
+			}
+			return $value;
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public ValueType getWeak() {
+		java.lang.ref.WeakReference<ValueType> $reference = this.$weakReference;
+		ValueType $value = null;
+		if ($reference != null) $value = $reference.get();
+		if ($value != null) return $value;
+		synchronized (this) {
+			$reference = this.$weakReference;
+			if ($reference != null) $value = $reference.get();
+			if ($value == null) {
+				$value = new ValueType();
+				this.$weakReference = new java.lang.ref.WeakReference<ValueType>($value);
+			}
+			return $value;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+import java.util.regex.Pattern;
+
+class LazyGetterStatic {
+	private static volatile boolean $nameInitialized;
+
+	private static String name;
+
+	@java.lang.SuppressWarnings("all")
+	private static class $PATTERNHolder {
+		private static final Pattern VALUE = Pattern.compile("[a-z]+");
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static Pattern getPATTERN() {
+		return $PATTERNHolder.VALUE;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public static String getName() {
+		if (!$nameInitialized) {
+			synchronized (LazyGetterStatic.class) {
+				if (!$nameInitialized) {
+					name = String.valueOf(42);
+					$nameInitialized = true;
+				}
+			}
+		}
+		return name;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+class LazyGetterWarmUp {
+	private volatile boolean $totalInitialized;
+
+	private static volatile boolean $nameInitialized;
+
+	private int total;
+
+	private volatile String label;
+
+	private static String name;
+
+	private int computeTotal() {
+		return 42;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public void warmUpLazyFields(final java.util.concurrent.Executor executor) throws java.lang.InterruptedException, java.util.concurrent.ExecutionException {
+		final java.util.concurrent.ExecutorCompletionService<java.lang.Object> $completion = new java.util.concurrent.ExecutorCompletionService<java.lang.Object>(executor);
+		final java.util.List<java.util.concurrent.Future<java.lang.Object>> $futures = new java.util.ArrayList<java.util.concurrent.Future<java.lang.Object>>();
+		try {
+			$futures.add($completion.submit(new java.lang.Runnable(){
+				@java.lang.Override
+				public void run() {
+					getTotal();
+				}
+			}, null));
+			$futures.add($completion.submit(new java.lang.Runnable(){
+				@java.lang.Override
+				public void run() {
+					getLabel();
+				}
+			}, null));
+			$completion.take().get();
+			$completion.take().get();
+		} finally {
+			for (final java.util.concurrent.Future<java.lang.Object> $future : $futures) {
+				$future.cancel(true);
+			}
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public static void warmUpStaticLazyFields(final java.util.concurrent.Executor executor) throws java.lang.InterruptedException, java.util.concurrent.ExecutionException {
+		final java.util.concurrent.ExecutorCompletionService<java.lang.Object> $completion = new java.util.concurrent.ExecutorCompletionService<java.lang.Object>(executor);
+		final java.util.List<java.util.concurrent.Future<java.lang.Object>> $futures = new java.util.ArrayList<java.util.concurrent.Future<java.lang.Object>>();
+		try {
+			$futures.add($completion.submit(new java.lang.Runnable(){
+				@java.lang.Override
+				public void run() {
+					getName();
+				}
+			}, null));
+			$completion.take().get();
+		} finally {
+			for (final java.util.concurrent.Future<java.lang.Object> $future : $futures) {
+				$future.cancel(true);
+			}
+		}
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public int getTotal() {
+		if (!this.$totalInitialized) {
+			synchronized (this) {
+				if (!this.$totalInitialized) {
+					this.total = computeTotal();
+					this.$totalInitialized = true;
+				}
+			}
+		}
+		return this.total;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public String getLabel() {
+		String $value = this.label;
+		if ($value == null) {
+			synchronized (this) {
+				$value = this.label;
+				if ($value == null) {
+					$value = String.valueOf(computeTotal());
+					this.label = $value;
+				}
+			}
+		}
+		return $value;
+	}
+
+	@java.lang.SuppressWarnings("all")
+	public static String getName() {
+		if (!$nameInitialized) {
+			synchronized (LazyGetterWarmUp.class) {
+				if (!$nameInitialized) {
+					name = String.valueOf(42);
+					$nameInitialized = true;
+				}
+			}
+		}
+		return name;
+	}
+}
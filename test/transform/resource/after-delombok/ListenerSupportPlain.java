@@ -1,94 +1,235 @@
 class ListenerSupportPlain1 {
-	private final java.util.List<java.awt.event.KeyListener> $registeredKeyListener = new java.util.concurrent.CopyOnWriteArrayList<java.awt.event.KeyListener>();
-	private final java.util.List<java.awt.event.MouseWheelListener> $registeredMouseWheelListener = new java.util.concurrent.CopyOnWriteArrayList<java.awt.event.MouseWheelListener>();
+	private static final Object[] $NO_LISTENERS = new Object[0];
+	private final java.util.concurrent.atomic.AtomicReference<Object[]> $registeredKeyListener = new java.util.concurrent.atomic.AtomicReference<Object[]>($NO_LISTENERS);
+	private final java.util.concurrent.atomic.AtomicReference<Object[]> $registeredMouseWheelListener = new java.util.concurrent.atomic.AtomicReference<Object[]>($NO_LISTENERS);
+	
+	@java.lang.SuppressWarnings("all")
+	private static Object[] $withListener(final Object[] listeners, final Object listener) {
+		int i = 0;
+		while (i < listeners.length) {
+			if (listener.equals(listeners[i])) return listeners;
+			i++;
+		}
+		final Object[] updated = java.util.Arrays.copyOf(listeners, listeners.length + 1);
+		updated[listeners.length] = listener;
+		return updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static Object[] $withoutListener(final Object[] listeners, final Object listener) {
+		int i = 0;
+		while (i < listeners.length) {
+			if (listener.equals(listeners[i])) {
+				final Object[] updated = new Object[listeners.length - 1];
+				java.lang.System.arraycopy(listeners, 0, updated, 0, i);
+				java.lang.System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+				return updated;
+			}
+			i++;
+		}
+		return listeners;
+	}
 	
 	@java.lang.SuppressWarnings("all")
 	public void addKeyListener(final java.awt.event.KeyListener l) {
-		if (!$registeredKeyListener.contains(l)) $registeredKeyListener.add(l);
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredKeyListener.get();
+			final Object[] updated = $withListener(current, l);
+			if (updated == current || $registeredKeyListener.compareAndSet(current, updated)) return;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	public void removeKeyListener(final java.awt.event.KeyListener l) {
-		$registeredKeyListener.remove(l);
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredKeyListener.get();
+			final Object[] updated = $withoutListener(current, l);
+			if (updated == current || $registeredKeyListener.compareAndSet(current, updated)) return;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireKeyTyped(final java.awt.event.KeyEvent arg0) {
-		for (java.awt.event.KeyListener l : $registeredKeyListener) l.keyTyped(arg0);
+		final Object[] $listeners = $registeredKeyListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((java.awt.event.KeyListener)$listeners[$i]).keyTyped(arg0);
+			$i++;
+		}
 	}
-
+	
 	@java.lang.SuppressWarnings("all")
 	protected void fireKeyPressed(final java.awt.event.KeyEvent arg0) {
-		for (java.awt.event.KeyListener l : $registeredKeyListener) l.keyPressed(arg0);
+		final Object[] $listeners = $registeredKeyListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((java.awt.event.KeyListener)$listeners[$i]).keyPressed(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireKeyReleased(final java.awt.event.KeyEvent arg0) {
-		for (java.awt.event.KeyListener l : $registeredKeyListener) l.keyReleased(arg0);
+		final Object[] $listeners = $registeredKeyListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((java.awt.event.KeyListener)$listeners[$i]).keyReleased(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	public void addMouseWheelListener(final java.awt.event.MouseWheelListener l) {
-		if (!$registeredMouseWheelListener.contains(l)) $registeredMouseWheelListener.add(l);
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredMouseWheelListener.get();
+			final Object[] updated = $withListener(current, l);
+			if (updated == current || $registeredMouseWheelListener.compareAndSet(current, updated)) return;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	public void removeMouseWheelListener(final java.awt.event.MouseWheelListener l) {
-		$registeredMouseWheelListener.remove(l);
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredMouseWheelListener.get();
+			final Object[] updated = $withoutListener(current, l);
+			if (updated == current || $registeredMouseWheelListener.compareAndSet(current, updated)) return;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseWheelMoved(final java.awt.event.MouseWheelEvent arg0) {
-		for (java.awt.event.MouseWheelListener l : $registeredMouseWheelListener) l.mouseWheelMoved(arg0);
+		final Object[] $listeners = $registeredMouseWheelListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((java.awt.event.MouseWheelListener)$listeners[$i]).mouseWheelMoved(arg0);
+			$i++;
+		}
 	}
 }
 class ListenerSupportPlain2 {
 }
 class ListenerSupportPlain3 {
-	private final java.util.List<javax.swing.event.MouseInputListener> $registeredMouseInputListener = new java.util.concurrent.CopyOnWriteArrayList<javax.swing.event.MouseInputListener>();
+	private static final Object[] $NO_LISTENERS = new Object[0];
+	private final java.util.concurrent.atomic.AtomicReference<Object[]> $registeredMouseInputListener = new java.util.concurrent.atomic.AtomicReference<Object[]>($NO_LISTENERS);
+	
+	@java.lang.SuppressWarnings("all")
+	private static Object[] $withListener(final Object[] listeners, final Object listener) {
+		int i = 0;
+		while (i < listeners.length) {
+			if (listener.equals(listeners[i])) return listeners;
+			i++;
+		}
+		final Object[] updated = java.util.Arrays.copyOf(listeners, listeners.length + 1);
+		updated[listeners.length] = listener;
+		return updated;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static Object[] $withoutListener(final Object[] listeners, final Object listener) {
+		int i = 0;
+		while (i < listeners.length) {
+			if (listener.equals(listeners[i])) {
+				final Object[] updated = new Object[listeners.length - 1];
+				java.lang.System.arraycopy(listeners, 0, updated, 0, i);
+				java.lang.System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+				return updated;
+			}
+			i++;
+		}
+		return listeners;
+	}
 	
 	@java.lang.SuppressWarnings("all")
 	public void addMouseInputListener(final javax.swing.event.MouseInputListener l) {
-		if (!$registeredMouseInputListener.contains(l)) $registeredMouseInputListener.add(l);
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredMouseInputListener.get();
+			final Object[] updated = $withListener(current, l);
+			if (updated == current || $registeredMouseInputListener.compareAndSet(current, updated)) return;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	public void removeMouseInputListener(final javax.swing.event.MouseInputListener l) {
-		$registeredMouseInputListener.remove(l);
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredMouseInputListener.get();
+			final Object[] updated = $withoutListener(current, l);
+			if (updated == current || $registeredMouseInputListener.compareAndSet(current, updated)) return;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseClicked(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mouseClicked(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mouseClicked(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMousePressed(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mousePressed(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mousePressed(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseReleased(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mouseReleased(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mouseReleased(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseEntered(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mouseEntered(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mouseEntered(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseExited(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mouseExited(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mouseExited(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseDragged(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mouseDragged(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mouseDragged(arg0);
+			$i++;
+		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	protected void fireMouseMoved(final java.awt.event.MouseEvent arg0) {
-		for (javax.swing.event.MouseInputListener l : $registeredMouseInputListener) l.mouseMoved(arg0);
+		final Object[] $listeners = $registeredMouseInputListener.get();
+		int $i = 0;
+		while ($i < $listeners.length) {
+			((javax.swing.event.MouseInputListener)$listeners[$i]).mouseMoved(arg0);
+			$i++;
+		}
 	}
 }
\ No newline at end of file
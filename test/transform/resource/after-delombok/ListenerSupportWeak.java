@@ -0,0 +1,83 @@
+class ListenerSupportWeak {
+	private static final Object[] $NO_LISTENERS = new Object[0];
+	private final java.util.concurrent.atomic.AtomicReference<Object[]> $registeredMouseWheelListener = new java.util.concurrent.atomic.AtomicReference<Object[]>($NO_LISTENERS);
+	
+	@java.lang.SuppressWarnings("all")
+	private static Object[] $withWeakListener(final Object[] listeners, final Object listener) {
+		final Object[] updated = new Object[listeners.length + 1];
+		int size = 0;
+		int i = 0;
+		while (i < listeners.length) {
+			final Object registered = ((java.lang.ref.WeakReference<?>)listeners[i]).get();
+			if (listener.equals(registered)) return listeners;
+			if (registered != null) {
+				updated[size] = listeners[i];
+				size++;
+			}
+			i++;
+		}
+		updated[size] = new java.lang.ref.WeakReference<Object>(listener);
+		return java.util.Arrays.copyOf(updated, size + 1);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static Object[] $withoutWeakListener(final Object[] listeners, final Object listener) {
+		final Object[] updated = new Object[listeners.length];
+		int size = 0;
+		int i = 0;
+		while (i < listeners.length) {
+			final Object registered = ((java.lang.ref.WeakReference<?>)listeners[i]).get();
+			if (registered != null && (listener == null || !listener.equals(registered))) {
+				updated[size] = listeners[i];
+				size++;
+			}
+			i++;
+		}
+		if (size == listeners.length) return listeners;
+		return java.util.Arrays.copyOf(updated, size);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void addMouseWheelListener(final java.awt.event.MouseWheelListener l) {
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredMouseWheelListener.get();
+			final Object[] updated = $withWeakListener(current, l);
+			if (updated == current || $registeredMouseWheelListener.compareAndSet(current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void removeMouseWheelListener(final java.awt.event.MouseWheelListener l) {
+		if (l == null) return;
+		while (true) {
+			final Object[] current = $registeredMouseWheelListener.get();
+			final Object[] updated = $withoutWeakListener(current, l);
+			if (updated == current || $registeredMouseWheelListener.compareAndSet(current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $purgeMouseWheelListener() {
+		while (true) {
+			final Object[] current = $registeredMouseWheelListener.get();
+			final Object[] updated = $withoutWeakListener(current, null);
+			if (updated == current || $registeredMouseWheelListener.compareAndSet(current, updated)) return;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	protected void fireMouseWheelMoved(final java.awt.event.MouseWheelEvent arg0) {
+		final Object[] $listeners = $registeredMouseWheelListener.get();
+		boolean $purge = false;
+		int $i = 0;
+		while ($i < $listeners.length) {
+			final Object $l = ((java.lang.ref.WeakReference<?>)$listeners[$i]).get();
+			if ($l == null) $purge = true; else {
+				((java.awt.event.MouseWheelListener)$l).mouseWheelMoved(arg0);
+			}
+			$i++;
+		}
+		if ($purge) $purgeMouseWheelListener();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+class ObservableAttributeAsync {
+	private volatile com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners;
+	private boolean $name$pending;
+	private boolean $dispatchScheduled;
+	public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeAsync, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeAsync, String>(){
+		
+		@java.lang.Override
+		public String getValue(final ObservableAttributeAsync instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final ObservableAttributeAsync instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<ObservableAttributeAsync> getParent() {
+			return ObservableAttributeAsync.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+		
+		@java.lang.Override
+		public com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeAsync object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+			if (object.$name$listeners == null) {
+				synchronized (object) {
+					if (object.$name$listeners == null) {
+						object.$name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+					}
+				}
+			}
+			return object.$name$listeners.addListener(valueChangeListener);
+		}
+	};
+	
+	private java.util.concurrent.Executor executor;
+	
+	private String name;
+	
+	@java.lang.SuppressWarnings("all")
+	private void $name$dispatchChange() {
+		synchronized (this) {
+			if (!this.$name$pending) return;
+			this.$name$pending = false;
+		}
+		final com.doctusoft.common.core.bean.internal.AttributeListeners<String> $listeners = this.$name$listeners;
+		if ($listeners != null) $listeners.fireListeners(this.name);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $scheduleDispatch(final java.util.concurrent.Executor executor) {
+		try {
+			executor.execute(new java.lang.Runnable(){
+				
+				@java.lang.Override
+				public void run() {
+					$dispatchChanges();
+				}
+			});
+		} catch (final java.util.concurrent.RejectedExecutionException $e) {
+			synchronized (this) {
+				this.$dispatchScheduled = false;
+			}
+			throw $e;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $dispatchChanges() {
+		boolean $done = false;
+		try {
+			while (!$done) {
+				this.$name$dispatchChange();
+				synchronized (this) {
+					if (!this.$name$pending) {
+						this.$dispatchScheduled = false;
+						$done = true;
+					}
+				}
+			}
+		} finally {
+			if (!$done) this.$scheduleDispatch(executor);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(final String name) {
+		this.name = name;
+		if (this.$name$listeners != null) {
+			boolean $schedule;
+			synchronized (this) {
+				this.$name$pending = true;
+				$schedule = !this.$dispatchScheduled;
+				this.$dispatchScheduled = true;
+			}
+			if ($schedule) this.$scheduleDispatch(executor);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,81 @@
+class ObservableAttributeBatch {
+	private com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+	private boolean $name$changed;
+	private int $changeDepth;
+	public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeBatch, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeBatch, String>(){
+		
+		@java.lang.Override
+		public String getValue(final ObservableAttributeBatch instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final ObservableAttributeBatch instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<ObservableAttributeBatch> getParent() {
+			return ObservableAttributeBatch.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+		
+		@java.lang.Override
+		public com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeBatch object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+			return object.$name$listeners.addListener(valueChangeListener);
+		}
+	};
+	
+	private String name;
+	
+	@java.lang.SuppressWarnings("all")
+	private void $name$flushChange() {
+		if (this.$name$changed) {
+			this.$name$changed = false;
+			$name$listeners.fireListeners(this.name);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void beginChanges() {
+		this.$changeDepth = this.$changeDepth + 1;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void commitChanges() {
+		if (this.$changeDepth == 0) return;
+		this.$changeDepth = this.$changeDepth - 1;
+		if (this.$changeDepth > 0) return;
+		this.$flushChanges();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $flushChanges() {
+		this.$name$flushChange();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(final String name) {
+		this.name = name;
+		if (this.$changeDepth > 0) {
+			this.$name$changed = true;
+			return;
+		}
+		$name$listeners.fireListeners(name);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getName() {
+		return name;
+	}
+}
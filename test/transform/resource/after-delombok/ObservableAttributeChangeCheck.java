@@ -0,0 +1,100 @@
+class ObservableAttributeChangeCheck {
+	private com.doctusoft.common.core.bean.internal.AttributeListeners<Double> $ratio$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<Double>();
+	public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, Double> _ratio = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, Double>(){
+		
+		@java.lang.Override
+		public Double getValue(final ObservableAttributeChangeCheck instance) {
+			return (double)instance.getRatio();
+		}
+		
+		@java.lang.Override
+		public void setValue(final ObservableAttributeChangeCheck instance, final Double value) {
+			instance.setRatio(value);
+		}
+		
+		@java.lang.Override
+		public Class<ObservableAttributeChangeCheck> getParent() {
+			return ObservableAttributeChangeCheck.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "ratio";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<Double> getType() {
+			return (java.lang.Class)Double.class;
+		}
+		
+		@java.lang.Override
+		public com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeChangeCheck object, final com.doctusoft.common.core.bean.ValueChangeListener<Double> valueChangeListener) {
+			return object.$ratio$listeners.addListener(valueChangeListener);
+		}
+	};
+	private com.doctusoft.common.core.bean.internal.AttributeListeners<String> $label$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+	public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, String> _label = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, String>(){
+		
+		@java.lang.Override
+		public String getValue(final ObservableAttributeChangeCheck instance) {
+			return (String)instance.getLabel();
+		}
+		
+		@java.lang.Override
+		public void setValue(final ObservableAttributeChangeCheck instance, final String value) {
+			instance.setLabel(value);
+		}
+		
+		@java.lang.Override
+		public Class<ObservableAttributeChangeCheck> getParent() {
+			return ObservableAttributeChangeCheck.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "label";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+		
+		@java.lang.Override
+		public com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeChangeCheck object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+			return object.$label$listeners.addListener(valueChangeListener);
+		}
+	};
+	
+	private double ratio;
+	
+	private String label;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setRatio(final double ratio) {
+		if (java.lang.Double.doubleToLongBits(this.ratio) == java.lang.Double.doubleToLongBits(ratio)) return;
+		this.ratio = ratio;
+		$ratio$listeners.fireListeners(ratio);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public double getRatio() {
+		return ratio;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setLabel(final String label) {
+		if (this.label == label) return;
+		final boolean $equal = this.label != null && this.label.equals(label);
+		this.label = label;
+		if ($equal) return;
+		$label$listeners.fireListeners(label);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getLabel() {
+		return label;
+	}
+}
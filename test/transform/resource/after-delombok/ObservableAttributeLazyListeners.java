@@ -0,0 +1,57 @@
+class ObservableAttributeLazyListeners {
+	private volatile com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners;
+	public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeLazyListeners, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeLazyListeners, String>(){
+		
+		@java.lang.Override
+		public String getValue(final ObservableAttributeLazyListeners instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final ObservableAttributeLazyListeners instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<ObservableAttributeLazyListeners> getParent() {
+			return ObservableAttributeLazyListeners.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+		
+		@java.lang.Override
+		public com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeLazyListeners object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+			if (object.$name$listeners == null) {
+				synchronized (object) {
+					if (object.$name$listeners == null) {
+						object.$name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+					}
+				}
+			}
+			return object.$name$listeners.addListener(valueChangeListener);
+		}
+	};
+	
+	private String name;
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(final String name) {
+		this.name = name;
+		final com.doctusoft.common.core.bean.internal.AttributeListeners<String> $listeners = this.$name$listeners;
+		if ($listeners != null) $listeners.fireListeners(name);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getName() {
+		return name;
+	}
+}
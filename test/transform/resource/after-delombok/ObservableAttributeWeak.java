@@ -0,0 +1,77 @@
+class ObservableAttributeWeak {
+	private com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+	public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeWeak, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeWeak, String>(){
+		
+		@java.lang.Override
+		public String getValue(final ObservableAttributeWeak instance) {
+			return (String)instance.getName();
+		}
+		
+		@java.lang.Override
+		public void setValue(final ObservableAttributeWeak instance, final String value) {
+			instance.setName(value);
+		}
+		
+		@java.lang.Override
+		public Class<ObservableAttributeWeak> getParent() {
+			return ObservableAttributeWeak.class;
+		}
+		
+		@java.lang.Override
+		public String getName() {
+			return "name";
+		}
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("unchecked")
+		public Class<String> getType() {
+			return (java.lang.Class)String.class;
+		}
+		
+		@java.lang.Override
+		public com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeWeak object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+			$WeakValueChangeListener.purge();
+			final $WeakValueChangeListener<String> $weak = new $WeakValueChangeListener<String>(valueChangeListener);
+			$weak.registration = object.$name$listeners.addListener($weak);
+			return $weak.registration;
+		}
+	};
+	
+	private String name;
+	
+	@java.lang.SuppressWarnings("all")
+	private static final class $WeakValueChangeListener<V> extends java.lang.ref.WeakReference<com.doctusoft.common.core.bean.ValueChangeListener<V>> implements com.doctusoft.common.core.bean.ValueChangeListener<V> {
+		private static final java.lang.ref.ReferenceQueue<Object> COLLECTED = new java.lang.ref.ReferenceQueue<Object>();
+		volatile com.doctusoft.common.core.bean.ListenerRegistration registration;
+		
+		$WeakValueChangeListener(final com.doctusoft.common.core.bean.ValueChangeListener<V> listener) {
+			super(listener, COLLECTED);
+		}
+		
+		@java.lang.Override
+		public void valueChanged(final V newValue) {
+			final com.doctusoft.common.core.bean.ValueChangeListener<V> listener = get();
+			if (listener != null) listener.valueChanged(newValue);
+		}
+		
+		static void purge() {
+			while (true) {
+				final $WeakValueChangeListener<?> collected = ($WeakValueChangeListener<?>)COLLECTED.poll();
+				if (collected == null) return;
+				final com.doctusoft.common.core.bean.ListenerRegistration registration = collected.registration;
+				if (registration != null) registration.removeListener();
+			}
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void setName(final String name) {
+		this.name = name;
+		$name$listeners.fireListeners(name);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public String getName() {
+		return name;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+class AttributeInstance<T> {
+  private static final com.doctusoft.common.core.bean.Attribute<?, ?> $item$attribute = $item$createAttribute();
+  public final @java.lang.SuppressWarnings("unchecked") com.doctusoft.common.core.bean.Attribute<AttributeInstance, T> _item = (com.doctusoft.common.core.bean.Attribute<AttributeInstance, T>) $item$attribute;
+  private @lombok.Attribute(staticField = false) T item;
+  <clinit>() {
+  }
+  AttributeInstance() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") void setItem(final T item) {
+    this.item = item;
+  }
+  public @java.lang.SuppressWarnings("all") T getItem() {
+    return item;
+  }
+  private static @java.lang.SuppressWarnings("all") <T>com.doctusoft.common.core.bean.Attribute<AttributeInstance, T> $item$createAttribute() {
+    return new com.doctusoft.common.core.bean.Attribute<AttributeInstance, T>() {
+  x() {
+    super();
+  }
+  public @java.lang.Override T getValue(final AttributeInstance instance) {
+    return (T) instance.getItem();
+  }
+  public @java.lang.Override void setValue(final AttributeInstance instance, final T value) {
+    instance.setItem(value);
+  }
+  public @java.lang.Override Class<AttributeInstance> getParent() {
+    return AttributeInstance.class;
+  }
+  public @java.lang.Override String getName() {
+    return "item";
+  }
+  public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<T> getType() {
+    return null;
+  }
+};
+  }
+}
\ No newline at end of file
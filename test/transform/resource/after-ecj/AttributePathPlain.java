@@ -0,0 +1,64 @@
+class AttributePathPlain {
+  static class Order {
+    private Customer customer;
+    Order() {
+      super();
+    }
+    public Customer getCustomer() {
+      return customer;
+    }
+  }
+  static class Customer {
+    private String name;
+    Customer() {
+      super();
+    }
+    public String getName() {
+      return name;
+    }
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+  public static final com.doctusoft.common.core.bean.Attribute<Order, String> _customerName = new com.doctusoft.common.core.bean.Attribute<Order, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final Order instance) {
+      return getCustomerName(instance);
+    }
+    public @java.lang.Override void setValue(final Order instance, final String value) {
+      setCustomerName(instance, value);
+    }
+    public @java.lang.Override Class<Order> getParent() {
+      return Order.class;
+    }
+    public @java.lang.Override String getName() {
+      return "customer.name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+  };
+  <clinit>() {
+  }
+  AttributePathPlain() {
+    super();
+  }
+  public static @lombok.AttributePath(value = "customer.name",via = {Customer.class}) @java.lang.SuppressWarnings("all") String getCustomerName(Order order) {
+    if ((order == null))
+        return null;
+    final Customer $step0 = order.getCustomer();
+    if (($step0 == null))
+        return null;
+    return $step0.getName();
+  }
+  public static @java.lang.SuppressWarnings("all") void setCustomerName(final Order order, final String value) {
+    if ((order == null))
+        return ;
+    final Customer $step0 = order.getCustomer();
+    if (($step0 == null))
+        return ;
+    $step0.setName(value);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+class AttributePathReadOnly {
+  static class Order {
+    private Customer customer;
+    Order() {
+      super();
+    }
+    public Customer getCustomer() {
+      return customer;
+    }
+  }
+  static class Customer {
+    private Boolean active;
+    Customer() {
+      super();
+    }
+    public Boolean getActive() {
+      return active;
+    }
+  }
+  public static final com.doctusoft.common.core.bean.Attribute<Order, Boolean> _customerActive = new com.doctusoft.common.core.bean.Attribute<Order, Boolean>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override Boolean getValue(final Order instance) {
+      return getCustomerActive(instance);
+    }
+    public @java.lang.Override void setValue(final Order instance, final Boolean value) {
+      throw new java.lang.UnsupportedOperationException("customer.active is read-only");
+    }
+    public @java.lang.Override Class<Order> getParent() {
+      return Order.class;
+    }
+    public @java.lang.Override String getName() {
+      return "customer.active";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<Boolean> getType() {
+      return (java.lang.Class) Boolean.class;
+    }
+  };
+  <clinit>() {
+  }
+  AttributePathReadOnly() {
+    super();
+  }
+  public static @lombok.AttributePath(value = "customer.active",via = {Customer.class},readOnly = true) @java.lang.SuppressWarnings("all") Boolean getCustomerActive(Order order) {
+    if ((order == null))
+        return null;
+    final Customer $step0 = order.getCustomer();
+    if (($step0 == null))
+        return null;
+    return $step0.getActive();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+@lombok.AttributeRegistry class AttributeRegistryCopy {
+  private static final @java.lang.SuppressWarnings("all") class $AttributeRegistry {
+    private static final com.doctusoft.common.core.bean.Attribute<?, ?>[] ATTRIBUTES = new com.doctusoft.common.core.bean.Attribute<?, ?>[]{AttributeRegistryCopy._id, AttributeRegistryCopy._name};
+    <clinit>() {
+    }
+  }
+  public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, Long> _id = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, Long>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override Long getValue(final AttributeRegistryCopy instance) {
+      return (long) instance.getId();
+    }
+    public @java.lang.Override void setValue(final AttributeRegistryCopy instance, final Long value) {
+      instance.setId(value);
+    }
+    public @java.lang.Override Class<AttributeRegistryCopy> getParent() {
+      return AttributeRegistryCopy.class;
+    }
+    public @java.lang.Override String getName() {
+      return "id";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<Long> getType() {
+      return (java.lang.Class) Long.class;
+    }
+  };
+  public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, String> _name = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryCopy, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final AttributeRegistryCopy instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final AttributeRegistryCopy instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<AttributeRegistryCopy> getParent() {
+      return AttributeRegistryCopy.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+  };
+  private final @lombok.Attribute long id;
+  private @lombok.Attribute String name;
+  <clinit>() {
+  }
+  AttributeRegistryCopy(long id) {
+    super();
+    this.id = id;
+  }
+  public long getId() {
+    return id;
+  }
+  public void setId(long id) {
+    throw new UnsupportedOperationException();
+  }
+  public String getName() {
+    return name;
+  }
+  public void setName(String name) {
+    this.name = name;
+  }
+  public static @java.lang.SuppressWarnings("all") int attributeCount() {
+    return 2;
+  }
+  public static @java.lang.SuppressWarnings("all") com.doctusoft.common.core.bean.Attribute<?, ?> attributeAt(final int index) {
+    return $AttributeRegistry.ATTRIBUTES[index];
+  }
+  public static @java.lang.SuppressWarnings("all") int attributeIndex(final java.lang.String name) {
+    switch ((name.hashCode() & 2147483647)) {
+    case 3355 : ;
+        if ("id".equals(name))
+            return 0;
+        break ;
+    case 3373707 : ;
+        if ("name".equals(name))
+            return 1;
+        break ;
+    }
+    return (- 1);
+  }
+  public static @java.lang.SuppressWarnings("all") com.doctusoft.common.core.bean.Attribute<?, ?> attribute(final java.lang.String name) {
+    final int index = attributeIndex(name);
+    if ((index < 0))
+        return null;
+    return $AttributeRegistry.ATTRIBUTES[index];
+  }
+  public static @java.lang.SuppressWarnings("all") void copyAttributes(final AttributeRegistryCopy from, final AttributeRegistryCopy to) {
+    to.name = from.name;
+  }
+  public static @java.lang.SuppressWarnings("all") void copyAttributes(final AttributeRegistryCopy from, final AttributeRegistryCopy to, final long mask) {
+    if (((mask & (1L << 1)) != 0L))
+        to.name = from.name;
+  }
+}
\ No newline at end of file
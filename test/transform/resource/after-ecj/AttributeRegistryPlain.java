@@ -0,0 +1,101 @@
+@lombok.AttributeRegistry class AttributeRegistryPlain {
+  private static final @java.lang.SuppressWarnings("all") class $AttributeRegistry {
+    private static final com.doctusoft.common.core.bean.Attribute<?, ?>[] ATTRIBUTES = new com.doctusoft.common.core.bean.Attribute<?, ?>[]{AttributeRegistryPlain._name, AttributeRegistryPlain._count};
+    <clinit>() {
+    }
+  }
+  public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, String> _name = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final AttributeRegistryPlain instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final AttributeRegistryPlain instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<AttributeRegistryPlain> getParent() {
+      return AttributeRegistryPlain.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+  };
+  public static final com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, Integer> _count = new com.doctusoft.common.core.bean.Attribute<AttributeRegistryPlain, Integer>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override Integer getValue(final AttributeRegistryPlain instance) {
+      return (int) instance.getCount();
+    }
+    public @java.lang.Override void setValue(final AttributeRegistryPlain instance, final Integer value) {
+      instance.setCount(value);
+    }
+    public @java.lang.Override Class<AttributeRegistryPlain> getParent() {
+      return AttributeRegistryPlain.class;
+    }
+    public @java.lang.Override String getName() {
+      return "count";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<Integer> getType() {
+      return (java.lang.Class) Integer.class;
+    }
+  };
+  private @lombok.Attribute String name;
+  private @lombok.Attribute int count;
+  <clinit>() {
+  }
+  AttributeRegistryPlain() {
+    super();
+  }
+  public String getName() {
+    return name;
+  }
+  public void setName(String name) {
+    this.name = name;
+  }
+  public int getCount() {
+    return count;
+  }
+  public void setCount(int count) {
+    this.count = count;
+  }
+  public static @java.lang.SuppressWarnings("all") int attributeCount() {
+    return 2;
+  }
+  public static @java.lang.SuppressWarnings("all") com.doctusoft.common.core.bean.Attribute<?, ?> attributeAt(final int index) {
+    return $AttributeRegistry.ATTRIBUTES[index];
+  }
+  public static @java.lang.SuppressWarnings("all") int attributeIndex(final java.lang.String name) {
+    switch ((name.hashCode() & 2147483647)) {
+    case 3373707 : ;
+        if ("name".equals(name))
+            return 0;
+        break ;
+    case 94851343 : ;
+        if ("count".equals(name))
+            return 1;
+        break ;
+    }
+    return (- 1);
+  }
+  public static @java.lang.SuppressWarnings("all") com.doctusoft.common.core.bean.Attribute<?, ?> attribute(final java.lang.String name) {
+    final int index = attributeIndex(name);
+    if ((index < 0))
+        return null;
+    return $AttributeRegistry.ATTRIBUTES[index];
+  }
+  public static @java.lang.SuppressWarnings("all") void copyAttributes(final AttributeRegistryPlain from, final AttributeRegistryPlain to) {
+    to.name = from.name;
+    to.count = from.count;
+  }
+  public static @java.lang.SuppressWarnings("all") void copyAttributes(final AttributeRegistryPlain from, final AttributeRegistryPlain to, final long mask) {
+    if (((mask & (1L << 0)) != 0L))
+        to.name = from.name;
+    if (((mask & (1L << 1)) != 0L))
+        to.count = from.count;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+class AttributeSpecializePrimitives {
+  public static final @java.lang.SuppressWarnings("all") class $CountAttribute implements com.doctusoft.common.core.bean.Attribute<AttributeSpecializePrimitives, Integer> {
+    private $CountAttribute() {
+      super();
+    }
+    public @java.lang.Override Integer getValue(final AttributeSpecializePrimitives instance) {
+      return (int) instance.getCount();
+    }
+    public @java.lang.Override void setValue(final AttributeSpecializePrimitives instance, final Integer value) {
+      instance.setCount(value);
+    }
+    public @java.lang.Override Class<AttributeSpecializePrimitives> getParent() {
+      return AttributeSpecializePrimitives.class;
+    }
+    public @java.lang.Override String getName() {
+      return "count";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<Integer> getType() {
+      return (java.lang.Class) Integer.class;
+    }
+    public int getInt(final AttributeSpecializePrimitives instance) {
+      return instance.getCount();
+    }
+    public void setInt(final AttributeSpecializePrimitives instance, final int value) {
+      instance.setCount(value);
+    }
+  }
+  public static final $CountAttribute _count = new $CountAttribute();
+  private @lombok.Attribute(specializePrimitives = true) int count;
+  <clinit>() {
+  }
+  AttributeSpecializePrimitives() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") void setCount(final int count) {
+    this.count = count;
+  }
+  public @java.lang.SuppressWarnings("all") int getCount() {
+    return count;
+  }
+}
\ No newline at end of file
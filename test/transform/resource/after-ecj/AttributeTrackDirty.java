@@ -0,0 +1,66 @@
+class AttributeTrackDirty {
+  private transient long $dirty0;
+  public static final com.doctusoft.common.core.bean.Attribute<AttributeTrackDirty, String> _name = new com.doctusoft.common.core.bean.Attribute<AttributeTrackDirty, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final AttributeTrackDirty instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final AttributeTrackDirty instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<AttributeTrackDirty> getParent() {
+      return AttributeTrackDirty.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+  };
+  private @lombok.Attribute(trackDirty = true) String name;
+  private boolean dirty;
+  <clinit>() {
+  }
+  AttributeTrackDirty() {
+    super();
+  }
+  public boolean isDirty() {
+    return dirty;
+  }
+  private @java.lang.SuppressWarnings("all") void $name$markDirty() {
+    this.$dirty0 = (this.$dirty0 | (1L << 0));
+  }
+  public @java.lang.SuppressWarnings("all") boolean isDirty(final com.doctusoft.common.core.bean.Attribute<?, ?> attribute) {
+    return this.$isDirty(attribute);
+  }
+  public @java.lang.SuppressWarnings("all") java.util.List<com.doctusoft.common.core.bean.Attribute<?, ?>> dirtyAttributes() {
+    return this.$dirtyAttributes();
+  }
+  public @java.lang.SuppressWarnings("all") void clearDirty() {
+    this.$clearDirty();
+  }
+  private @java.lang.SuppressWarnings("all") boolean $isDirty(final com.doctusoft.common.core.bean.Attribute<?, ?> attribute) {
+    if ((attribute == _name))
+        return ((this.$dirty0 & (1L << 0)) != 0L);
+    return false;
+  }
+  private @java.lang.SuppressWarnings("all") java.util.List<com.doctusoft.common.core.bean.Attribute<?, ?>> $dirtyAttributes() {
+    final java.util.List<com.doctusoft.common.core.bean.Attribute<?, ?>> attributes = new java.util.ArrayList<com.doctusoft.common.core.bean.Attribute<?, ?>>();
+    if (((this.$dirty0 & (1L << 0)) != 0L))
+        attributes.add(_name);
+    return attributes;
+  }
+  private @java.lang.SuppressWarnings("all") void $clearDirty() {
+    this.$dirty0 = 0L;
+  }
+  public @java.lang.SuppressWarnings("all") void setName(final String name) {
+    this.name = name;
+    this.$name$markDirty();
+  }
+  public @java.lang.SuppressWarnings("all") String getName() {
+    return name;
+  }
+}
\ No newline at end of file
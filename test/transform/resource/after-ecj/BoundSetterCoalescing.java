@@ -0,0 +1,98 @@
+import lombok.BoundSetter;
+@BoundSetter(coalesce = BoundSetter.Coalescing.PER_PROPERTY) class BoundSetterCoalescing {
+  private volatile transient java.beans.PropertyChangeSupport $propertyChangeSupport;
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterCoalescing, java.beans.PropertyChangeSupport> $PROPERTY_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterCoalescing.class, java.beans.PropertyChangeSupport.class, "$propertyChangeSupport");
+  private transient int $updateDepth;
+  private transient java.util.Map<java.lang.String, java.lang.Object[]> $pendingChanges;
+  public static final java.lang.String PROP_COUNT = "count";
+  public static final java.lang.String PROP_NAME = "name";
+  private int count;
+  private String name;
+  <clinit>() {
+  }
+  BoundSetterCoalescing() {
+    super();
+  }
+  private @java.lang.SuppressWarnings("all") java.beans.PropertyChangeSupport getPropertyChangeSupport() {
+    if ((this.$propertyChangeSupport == null))
+        {
+          $PROPERTY_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
+        }
+    return this.$propertyChangeSupport;
+  }
+  public @java.lang.SuppressWarnings("all") void addPropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    getPropertyChangeSupport().addPropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void removePropertyChangeListener(final java.beans.PropertyChangeListener listener) {
+    getPropertyChangeSupport().removePropertyChangeListener(listener);
+  }
+  public @java.lang.SuppressWarnings("all") void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+    final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+    if (($support != null))
+        $support.firePropertyChange(propertyName, oldValue, newValue);
+  }
+  public @java.lang.SuppressWarnings("all") void beginUpdate() {
+    this.$updateDepth = (this.$updateDepth + 1);
+  }
+  public @java.lang.SuppressWarnings("all") void endUpdate() {
+    if ((this.$updateDepth == 0))
+        throw new java.lang.IllegalStateException("endUpdate() without beginUpdate()");
+    this.$updateDepth = (this.$updateDepth - 1);
+    if ((this.$updateDepth > 0))
+        return ;
+    final java.util.Map<java.lang.String, java.lang.Object[]> $changes = this.$pendingChanges;
+    if (($changes == null))
+        return ;
+    this.$pendingChanges = null;
+    java.lang.RuntimeException $failure = null;
+    for (final java.util.Map.Entry<java.lang.String, java.lang.Object[]> $change : $changes.entrySet()) 
+      {
+        try 
+          {
+            firePropertyChange($change.getKey(), $change.getValue()[0], $change.getValue()[1]);
+          }
+        catch (final java.lang.RuntimeException $e)           {
+            if (($failure == null))
+                $failure = $e;
+          }
+      }
+    if (($failure != null))
+        throw $failure;
+  }
+  private @java.lang.SuppressWarnings("all") void $firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
+    if ((this.$updateDepth == 0))
+        {
+          firePropertyChange(propertyName, oldValue, newValue);
+          return ;
+        }
+    if ((this.$pendingChanges == null))
+        this.$pendingChanges = new java.util.LinkedHashMap<java.lang.String, java.lang.Object[]>();
+    final java.lang.Object[] $change = this.$pendingChanges.get(propertyName);
+    if (($change == null))
+        this.$pendingChanges.put(propertyName, new java.lang.Object[]{oldValue, newValue});
+    else
+        $change[1] = newValue;
+  }
+  public @java.lang.SuppressWarnings("all") void setCount(final int count) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.count = count;
+          return ;
+        }
+    final int $old = this.count;
+    if (($old == count))
+        return ;
+    this.count = count;
+    $firePropertyChange(PROP_COUNT, $old, count);
+  }
+  public @java.lang.SuppressWarnings("all") void setName(final String name) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.name = name;
+          return ;
+        }
+    final String $old = this.name;
+    this.name = name;
+    $firePropertyChange(PROP_NAME, $old, name);
+  }
+}
\ No newline at end of file
@@ -2,7 +2,7 @@ import lombok.AccessLevel;
 import lombok.BoundSetter;
 class BoundSetterPlain {
   private volatile transient java.beans.PropertyChangeSupport $propertyChangeSupport;
-  private final java.lang.Object[] $propertyChangeSupportLock = new java.lang.Object[0];
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<BoundSetterPlain, java.beans.PropertyChangeSupport> $PROPERTY_CHANGE_SUPPORT = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(BoundSetterPlain.class, java.beans.PropertyChangeSupport.class, "$propertyChangeSupport");
   public static final java.lang.String PROP_I = "i";
   public static final java.lang.String PROP_S = "s";
   public static final java.lang.String PROP_F = "f";
@@ -21,13 +21,7 @@ class BoundSetterPlain {
   private @java.lang.SuppressWarnings("all") java.beans.PropertyChangeSupport getPropertyChangeSupport() {
     if ((this.$propertyChangeSupport == null))
         {
-          synchronized (this.$propertyChangeSupportLock)
-            {
-              if ((this.$propertyChangeSupport == null))
-                  {
-                    this.$propertyChangeSupport = new java.beans.PropertyChangeSupport(this);
-                  }
-            }
+          $PROPERTY_CHANGE_SUPPORT.compareAndSet(this, null, new java.beans.PropertyChangeSupport(this));
         }
     return this.$propertyChangeSupport;
   }
@@ -38,30 +32,63 @@ class BoundSetterPlain {
     getPropertyChangeSupport().removePropertyChangeListener(listener);
   }
   public @java.lang.SuppressWarnings("all") void firePropertyChange(final java.lang.String propertyName, final java.lang.Object oldValue, final java.lang.Object newValue) {
-    getPropertyChangeSupport().firePropertyChange(propertyName, oldValue, newValue);
+    final java.beans.PropertyChangeSupport $support = this.$propertyChangeSupport;
+    if (($support != null))
+        $support.firePropertyChange(propertyName, oldValue, newValue);
   }
   public @java.lang.SuppressWarnings("all") void setI(final int i) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.i = i;
+          return ;
+        }
     final int $old = this.i;
+    if (($old == i))
+        return ;
     this.i = i;
     firePropertyChange(PROP_I, $old, i);
   }
   public @java.lang.SuppressWarnings("all") void setS(final String s) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.s = s;
+          return ;
+        }
     final String $old = this.s;
     this.s = s;
     firePropertyChange(PROP_S, $old, s);
   }
   protected @java.lang.SuppressWarnings("all") void setF(final float f) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.f = f;
+          return ;
+        }
     final float $old = this.f;
+    if ((java.lang.Float.floatToIntBits($old) == java.lang.Float.floatToIntBits(f)))
+        return ;
     this.f = f;
     firePropertyChange(PROP_F, $old, f);
   }
   @java.lang.SuppressWarnings("all") void setO(final Object o) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.o = o;
+          return ;
+        }
     final Object $old = this.o;
     this.o = o;
     firePropertyChange(PROP_O, $old, o);
   }
   private @java.lang.SuppressWarnings("all") void setD(final double d) {
+    if ((this.$propertyChangeSupport == null))
+        {
+          this.d = d;
+          return ;
+        }
     final double $old = this.d;
+    if ((java.lang.Double.doubleToLongBits($old) == java.lang.Double.doubleToLongBits(d)))
+        return ;
     this.d = d;
     firePropertyChange(PROP_D, $old, d);
   }
@@ -0,0 +1,59 @@
+class LazyGetterInvalidate {
+  private volatile boolean $totalInitialized;
+  private @lombok.LazyGetter(invalidate = true,computedCheck = true) int total;
+  private volatile @lombok.LazyGetter(publication = lombok.LazyGetter.Publication.SYNCHRONIZED,invalidate = true,computedCheck = true) String label;
+  LazyGetterInvalidate() {
+    super();
+  }
+  private int computeTotal() {
+    return 42;
+  }
+  public @java.lang.SuppressWarnings("all") int getTotal() {
+    if ((! this.$totalInitialized))
+        {
+          synchronized (this)
+            {
+              if ((! this.$totalInitialized))
+                  {
+                    this.total = computeTotal();
+                    this.$totalInitialized = true;
+                  }
+            }
+        }
+    return this.total;
+  }
+  public @java.lang.SuppressWarnings("all") void invalidateTotal() {
+    synchronized (this)
+      {
+        this.$totalInitialized = false;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") boolean isTotalComputed() {
+    return this.$totalInitialized;
+  }
+  public @java.lang.SuppressWarnings("all") String getLabel() {
+    String $value = this.label;
+    if (($value == null))
+        {
+          synchronized (this)
+            {
+              $value = this.label;
+              if (($value == null))
+                  {
+                    $value = String.valueOf(computeTotal());
+                    this.label = $value;
+                  }
+            }
+        }
+    return $value;
+  }
+  public @java.lang.SuppressWarnings("all") void invalidateLabel() {
+    synchronized (this)
+      {
+        this.label = null;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") boolean isLabelComputed() {
+    return (this.label != null);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+class LazyGetterInvalidateExpiring {
+  static class ValueType {
+    ValueType() {
+      super();
+    }
+  }
+  private volatile boolean $expiringInitialized;
+  private volatile long $expiringExpiresAt;
+  private volatile boolean $refreshedInitialized;
+  private volatile long $refreshedExpiresAt;
+  private volatile boolean $refreshedRefreshing;
+  private int $refreshedGeneration;
+  private final Executor executor = Executors.newSingleThreadExecutor();
+  private volatile @lombok.LazyGetter(expireAfter = 5,timeUnit = TimeUnit.SECONDS,invalidate = true,computedCheck = true) ValueType expiring;
+  private volatile @lombok.LazyGetter(expireAfter = 5,timeUnit = TimeUnit.SECONDS,refreshExecutor = "executor",invalidate = true,computedCheck = true) ValueType refreshed;
+  LazyGetterInvalidateExpiring() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") ValueType getExpiring() {
+    if (((! this.$expiringInitialized) || ((java.lang.System.nanoTime() - this.$expiringExpiresAt) >= 0L)))
+        {
+          synchronized (this)
+            {
+              if (((! this.$expiringInitialized) || ((java.lang.System.nanoTime() - this.$expiringExpiresAt) >= 0L)))
+                  {
+                    this.expiring = new ValueType();
+                    this.$expiringExpiresAt = (java.lang.System.nanoTime() + 5000000000L);
+                    this.$expiringInitialized = true;
+                  }
+            }
+        }
+    return this.expiring;
+  }
+  public @java.lang.SuppressWarnings("all") void invalidateExpiring() {
+    synchronized (this)
+      {
+        this.$expiringInitialized = false;
+        this.expiring = null;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") boolean isExpiringComputed() {
+    return (this.$expiringInitialized && ((java.lang.System.nanoTime() - this.$expiringExpiresAt) < 0L));
+  }
+  public @java.lang.SuppressWarnings("all") ValueType getRefreshed() {
+    if ((! this.$refreshedInitialized))
+        {
+          synchronized (this)
+            {
+              if ((! this.$refreshedInitialized))
+                  {
+                    this.refreshed = $computeRefreshed();
+                    this.$refreshedExpiresAt = (java.lang.System.nanoTime() + 5000000000L);
+                    this.$refreshedInitialized = true;
+                  }
+            }
+        }
+    else
+        if ((((java.lang.System.nanoTime() - this.$refreshedExpiresAt) >= 0L) && (! this.$refreshedRefreshing)))
+            $refreshRefreshed();
+    return this.refreshed;
+  }
+  private @java.lang.SuppressWarnings("all") ValueType $computeRefreshed() {
+    return new ValueType();
+  }
+  private @java.lang.SuppressWarnings("all") void $refreshRefreshed() {
+    final int $generation;
+    synchronized (this)
+      {
+        if (this.$refreshedRefreshing)
+            return ;
+        this.$refreshedRefreshing = true;
+        $generation = this.$refreshedGeneration;
+      }
+    try 
+      {
+        executor.execute(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    try 
+      {
+        $reloadRefreshed($generation);
+      }
+    finally
+      {
+        $refreshedRefreshing = false;
+      }
+  }
+});
+      }
+    catch (final java.util.concurrent.RejectedExecutionException $e)       {
+        this.$refreshedRefreshing = false;
+      }
+  }
+  private @java.lang.SuppressWarnings("all") void $reloadRefreshed(final int $generation) {
+    final ValueType $value = $computeRefreshed();
+    synchronized (this)
+      {
+        if ((this.$refreshedGeneration != $generation))
+            return ;
+        this.refreshed = $value;
+        this.$refreshedExpiresAt = (java.lang.System.nanoTime() + 5000000000L);
+      }
+  }
+  public @java.lang.SuppressWarnings("all") void invalidateRefreshed() {
+    synchronized (this)
+      {
+        this.$refreshedInitialized = false;
+        this.refreshed = null;
+        this.$refreshedGeneration = (this.$refreshedGeneration + 1);
+      }
+  }
+  public @java.lang.SuppressWarnings("all") boolean isRefreshedComputed() {
+    return (this.$refreshedInitialized && ((java.lang.System.nanoTime() - this.$refreshedExpiresAt) < 0L));
+  }
+}
\ No newline at end of file
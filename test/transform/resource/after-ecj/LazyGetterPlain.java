@@ -5,7 +5,6 @@ class LazyGetterPlain {
     }
   }
   private volatile boolean $fieldNameInitialized;
-  private final java.lang.Object[] $fieldNameLock = new java.lang.Object[0];
   private @lombok.LazyGetter ValueType fieldName;
   LazyGetterPlain() {
     super();
@@ -13,7 +12,7 @@ class LazyGetterPlain {
   public @java.lang.SuppressWarnings("all") ValueType getFieldName() {
     if ((! this.$fieldNameInitialized))
         {
-          synchronized (this.$fieldNameLock)
+          synchronized (this)
             {
               if ((! this.$fieldNameInitialized))
                   {
@@ -0,0 +1,38 @@
+class LazyGetterPublication {
+  static class ValueType {
+    ValueType() {
+      super();
+    }
+  }
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<LazyGetterPublication, ValueType> $CAS_VALUE = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(LazyGetterPublication.class, ValueType.class, "casValue");
+  private volatile @lombok.LazyGetter(publication = lombok.LazyGetter.Publication.SYNCHRONIZED) ValueType synchronizedValue;
+  private volatile @lombok.LazyGetter(publication = lombok.LazyGetter.Publication.COMPARE_AND_SET) ValueType casValue;
+  <clinit>() {
+  }
+  LazyGetterPublication() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") ValueType getSynchronizedValue() {
+    ValueType $value = this.synchronizedValue;
+    if (($value == null))
+        {
+          synchronized (this)
+            {
+              $value = this.synchronizedValue;
+              if (($value == null))
+                  {
+                    $value = new ValueType();
+                    this.synchronizedValue = $value;
+                  }
+            }
+        }
+    return $value;
+  }
+  public @java.lang.SuppressWarnings("all") ValueType getCasValue() {
+    final ValueType $value = this.casValue;
+    if (($value != null))
+        return $value;
+    $CAS_VALUE.compareAndSet(this, null, new ValueType());
+    return this.casValue;
+  }
+}
\ No newline at end of file
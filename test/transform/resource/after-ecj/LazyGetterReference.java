@@ -0,0 +1,52 @@
+class LazyGetterReference {
+  static class ValueType {
+    ValueType() {
+      super();
+    }
+  }
+  private volatile transient java.lang.ref.SoftReference<ValueType> $softReference;
+  private volatile transient java.lang.ref.WeakReference<ValueType> $weakReference;
+  LazyGetterReference() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") ValueType getSoft() {
+    java.lang.ref.SoftReference<ValueType> $reference = this.$softReference;
+    ValueType $value = null;
+    if (($reference != null))
+        $value = $reference.get();
+    if (($value != null))
+        return $value;
+    synchronized (this)
+      {
+        $reference = this.$softReference;
+        if (($reference != null))
+            $value = $reference.get();
+        if (($value == null))
+            {
+              $value = new ValueType();
+              this.$softReference = new java.lang.ref.SoftReference<ValueType>($value);
+            }
+        return $value;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") ValueType getWeak() {
+    java.lang.ref.WeakReference<ValueType> $reference = this.$weakReference;
+    ValueType $value = null;
+    if (($reference != null))
+        $value = $reference.get();
+    if (($value != null))
+        return $value;
+    synchronized (this)
+      {
+        $reference = this.$weakReference;
+        if (($reference != null))
+            $value = $reference.get();
+        if (($value == null))
+            {
+              $value = new ValueType();
+              this.$weakReference = new java.lang.ref.WeakReference<ValueType>($value);
+            }
+        return $value;
+      }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+import java.util.regex.Pattern;
+class LazyGetterStatic {
+  private static @java.lang.SuppressWarnings("all") class $PATTERNHolder {
+    private static final Pattern VALUE = Pattern.compile("[a-z]+");
+    <clinit>() {
+    }
+  }
+  private static volatile boolean $nameInitialized;
+  private static @lombok.LazyGetter String name;
+  <clinit>() {
+  }
+  LazyGetterStatic() {
+    super();
+  }
+  public static @java.lang.SuppressWarnings("all") Pattern getPATTERN() {
+    return $PATTERNHolder.VALUE;
+  }
+  public static @java.lang.SuppressWarnings("all") String getName() {
+    if ((! $nameInitialized))
+        {
+          synchronized (LazyGetterStatic.class)
+            {
+              if ((! $nameInitialized))
+                  {
+                    name = String.valueOf(42);
+                    $nameInitialized = true;
+                  }
+            }
+        }
+    return name;
+  }
+}
\ No newline at end of file
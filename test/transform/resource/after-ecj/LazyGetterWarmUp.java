@@ -0,0 +1,114 @@
+class LazyGetterWarmUp {
+  private volatile boolean $totalInitialized;
+  private static volatile boolean $nameInitialized;
+  private @lombok.LazyGetter(warmUp = true) int total;
+  private volatile @lombok.LazyGetter(warmUp = true,publication = lombok.LazyGetter.Publication.SYNCHRONIZED) String label;
+  private static @lombok.LazyGetter(warmUp = true) String name;
+  <clinit>() {
+  }
+  LazyGetterWarmUp() {
+    super();
+  }
+  private int computeTotal() {
+    return 42;
+  }
+  public @java.lang.SuppressWarnings("all") void warmUpLazyFields(final java.util.concurrent.Executor executor) throws java.lang.InterruptedException, java.util.concurrent.ExecutionException {
+    final java.util.concurrent.ExecutorCompletionService<java.lang.Object> $completion = new java.util.concurrent.ExecutorCompletionService<java.lang.Object>(executor);
+    final java.util.List<java.util.concurrent.Future<java.lang.Object>> $futures = new java.util.ArrayList<java.util.concurrent.Future<java.lang.Object>>();
+    try 
+      {
+        $futures.add($completion.submit(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    getTotal();
+  }
+}, null));
+        $futures.add($completion.submit(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    getLabel();
+  }
+}, null));
+        $completion.take().get();
+        $completion.take().get();
+      }
+    finally
+      {
+        for (final java.util.concurrent.Future<java.lang.Object> $future : $futures) 
+          {
+            $future.cancel(true);
+          }
+      }
+  }
+  public static @java.lang.SuppressWarnings("all") void warmUpStaticLazyFields(final java.util.concurrent.Executor executor) throws java.lang.InterruptedException, java.util.concurrent.ExecutionException {
+    final java.util.concurrent.ExecutorCompletionService<java.lang.Object> $completion = new java.util.concurrent.ExecutorCompletionService<java.lang.Object>(executor);
+    final java.util.List<java.util.concurrent.Future<java.lang.Object>> $futures = new java.util.ArrayList<java.util.concurrent.Future<java.lang.Object>>();
+    try 
+      {
+        $futures.add($completion.submit(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    getName();
+  }
+}, null));
+        $completion.take().get();
+      }
+    finally
+      {
+        for (final java.util.concurrent.Future<java.lang.Object> $future : $futures) 
+          {
+            $future.cancel(true);
+          }
+      }
+  }
+  public @java.lang.SuppressWarnings("all") int getTotal() {
+    if ((! this.$totalInitialized))
+        {
+          synchronized (this)
+            {
+              if ((! this.$totalInitialized))
+                  {
+                    this.total = computeTotal();
+                    this.$totalInitialized = true;
+                  }
+            }
+        }
+    return this.total;
+  }
+  public @java.lang.SuppressWarnings("all") String getLabel() {
+    String $value = this.label;
+    if (($value == null))
+        {
+          synchronized (this)
+            {
+              $value = this.label;
+              if (($value == null))
+                  {
+                    $value = String.valueOf(computeTotal());
+                    this.label = $value;
+                  }
+            }
+        }
+    return $value;
+  }
+  public static @java.lang.SuppressWarnings("all") String getName() {
+    if ((! $nameInitialized))
+        {
+          synchronized (LazyGetterWarmUp.class)
+            {
+              if ((! $nameInitialized))
+                  {
+                    name = String.valueOf(42);
+                    $nameInitialized = true;
+                  }
+            }
+        }
+    return name;
+  }
+}
\ No newline at end of file
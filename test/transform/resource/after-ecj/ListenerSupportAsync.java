@@ -0,0 +1,131 @@
+@lombok.ListenerSupport(value = java.awt.event.MouseWheelListener.class,asyncExecutor = "executor",batchSize = 16) class ListenerSupportAsync {
+  private volatile transient java.util.concurrent.BlockingQueue<java.lang.Runnable> $pendingEvents;
+  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<ListenerSupportAsync, java.util.concurrent.BlockingQueue> $PENDING_EVENTS = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(ListenerSupportAsync.class, java.util.concurrent.BlockingQueue.class, "$pendingEvents");
+  private volatile transient int $drainScheduled;
+  private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<ListenerSupportAsync> $DRAIN_SCHEDULED = java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(ListenerSupportAsync.class, "$drainScheduled");
+  private static final Object[] $NO_LISTENERS = new Object[0];
+  private final java.util.concurrent.atomic.AtomicReference<Object[]> $registeredMouseWheelListener = new java.util.concurrent.atomic.AtomicReference<Object[]>($NO_LISTENERS);
+  private final java.util.concurrent.Executor executor = java.util.concurrent.Executors.newSingleThreadExecutor();
+  <clinit>() {
+  }
+  ListenerSupportAsync() {
+    super();
+  }
+  private @java.lang.SuppressWarnings("all") void $enqueueEvent(final java.lang.Runnable event) {
+    java.util.concurrent.BlockingQueue<java.lang.Runnable> queue = $pendingEvents;
+    if ((queue == null))
+        {
+          $PENDING_EVENTS.compareAndSet(this, null, new java.util.concurrent.ArrayBlockingQueue<java.lang.Runnable>(1024));
+          queue = $pendingEvents;
+        }
+    try 
+      {
+        queue.put(event);
+      }
+    catch (final java.lang.InterruptedException e)       {
+        java.lang.Thread.currentThread().interrupt();
+        return ;
+      }
+    $scheduleDrain();
+  }
+  private @java.lang.SuppressWarnings("all") void $scheduleDrain() {
+    if ($DRAIN_SCHEDULED.compareAndSet(this, 0, 1))
+        try 
+          {
+            executor.execute(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    $drainEvents();
+  }
+});
+          }
+        catch (final java.util.concurrent.RejectedExecutionException $e)           {
+            $DRAIN_SCHEDULED.set(this, 0);
+            throw $e;
+          }
+  }
+  private @java.lang.SuppressWarnings("all") void $drainEvents() {
+    try 
+      {
+        int delivered = 0;
+        while ((delivered < 16))          {
+            final java.lang.Runnable event = $pendingEvents.poll();
+            if ((event == null))
+                return ;
+            event.run();
+            delivered ++;
+          }
+      }
+    finally
+      {
+        $DRAIN_SCHEDULED.set(this, 0);
+        if ((! $pendingEvents.isEmpty()))
+            $scheduleDrain();
+      }
+  }
+  private static @java.lang.SuppressWarnings("all") Object[] $withListener(final Object[] listeners, final Object listener) {
+    int i = 0;
+    while ((i < listeners.length))      {
+        if (listener.equals(listeners[i]))
+            return listeners;
+        i ++;
+      }
+    final Object[] updated = java.util.Arrays.copyOf(listeners, (listeners.length + 1));
+    updated[listeners.length] = listener;
+    return updated;
+  }
+  private static @java.lang.SuppressWarnings("all") Object[] $withoutListener(final Object[] listeners, final Object listener) {
+    int i = 0;
+    while ((i < listeners.length))      {
+        if (listener.equals(listeners[i]))
+            {
+              final Object[] updated = new Object[(listeners.length - 1)];
+              java.lang.System.arraycopy(listeners, 0, updated, 0, i);
+              java.lang.System.arraycopy(listeners, (i + 1), updated, i, ((listeners.length - i) - 1));
+              return updated;
+            }
+        i ++;
+      }
+    return listeners;
+  }
+  public @java.lang.SuppressWarnings("all") void addMouseWheelListener(final java.awt.event.MouseWheelListener l) {
+    if ((l == null))
+        return ;
+    while (true)      {
+        final Object[] current = $registeredMouseWheelListener.get();
+        final Object[] updated = $withListener(current, l);
+        if (((updated == current) || $registeredMouseWheelListener.compareAndSet(current, updated)))
+            return ;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") void removeMouseWheelListener(final java.awt.event.MouseWheelListener l) {
+    if ((l == null))
+        return ;
+    while (true)      {
+        final Object[] current = $registeredMouseWheelListener.get();
+        final Object[] updated = $withoutListener(current, l);
+        if (((updated == current) || $registeredMouseWheelListener.compareAndSet(current, updated)))
+            return ;
+      }
+  }
+  protected @java.lang.SuppressWarnings("all") void fireMouseWheelMoved(final java.awt.event.MouseWheelEvent arg0) {
+    $enqueueEvent(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    $fireMouseWheelMoved(arg0);
+  }
+});
+  }
+  private @java.lang.SuppressWarnings("all") void $fireMouseWheelMoved(final java.awt.event.MouseWheelEvent arg0) {
+    final Object[] $listeners = $registeredMouseWheelListener.get();
+    int $i = 0;
+    while (($i < $listeners.length))      {
+        (java.awt.event.MouseWheelListener) $listeners[$i].mouseWheelMoved(arg0);
+        $i ++;
+      }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+@lombok.ListenerSupport(value = java.awt.event.MouseWheelListener.class,instrument = true) class ListenerSupportInstrument {
+  private final java.util.concurrent.ConcurrentMap<java.lang.Class<?>, java.util.concurrent.atomic.AtomicLongArray> $listenerStatistics = new java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>, java.util.concurrent.atomic.AtomicLongArray>();
+  private static final Object[] $NO_LISTENERS = new Object[0];
+  private final java.util.concurrent.atomic.AtomicReference<Object[]> $registeredMouseWheelListener = new java.util.concurrent.atomic.AtomicReference<Object[]>($NO_LISTENERS);
+  <clinit>() {
+  }
+  ListenerSupportInstrument() {
+    super();
+  }
+  private @java.lang.SuppressWarnings("all") void $recordListenerCall(final java.lang.Object listener, final long nanos, final boolean failed) {
+    java.util.concurrent.atomic.AtomicLongArray statistics = $listenerStatistics.get(listener.getClass());
+    if ((statistics == null))
+        {
+          final java.util.concurrent.atomic.AtomicLongArray created = new java.util.concurrent.atomic.AtomicLongArray(65);
+          statistics = $listenerStatistics.putIfAbsent(listener.getClass(), created);
+          if ((statistics == null))
+              statistics = created;
+        }
+    statistics.incrementAndGet((64 - java.lang.Long.numberOfLeadingZeros(java.lang.Math.max(0L, nanos))));
+    if (failed)
+        statistics.incrementAndGet(64);
+  }
+  public @java.lang.SuppressWarnings("all") java.util.Map<java.lang.Class<?>, long[]> listenerStatistics() {
+    final java.util.Map<java.lang.Class<?>, long[]> snapshot = new java.util.HashMap<java.lang.Class<?>, long[]>();
+    for (final java.util.Map.Entry<java.lang.Class<?>, java.util.concurrent.atomic.AtomicLongArray> entry : $listenerStatistics.entrySet()) 
+      {
+        final long[] counts = new long[65];
+        int i = 0;
+        while ((i < counts.length))          {
+            counts[i] = entry.getValue().get(i);
+            i ++;
+          }
+        snapshot.put(entry.getKey(), counts);
+      }
+    return snapshot;
+  }
+  private static @java.lang.SuppressWarnings("all") Object[] $withListener(final Object[] listeners, final Object listener) {
+    int i = 0;
+    while ((i < listeners.length))      {
+        if (listener.equals(listeners[i]))
+            return listeners;
+        i ++;
+      }
+    final Object[] updated = java.util.Arrays.copyOf(listeners, (listeners.length + 1));
+    updated[listeners.length] = listener;
+    return updated;
+  }
+  private static @java.lang.SuppressWarnings("all") Object[] $withoutListener(final Object[] listeners, final Object listener) {
+    int i = 0;
+    while ((i < listeners.length))      {
+        if (listener.equals(listeners[i]))
+            {
+              final Object[] updated = new Object[(listeners.length - 1)];
+              java.lang.System.arraycopy(listeners, 0, updated, 0, i);
+              java.lang.System.arraycopy(listeners, (i + 1), updated, i, ((listeners.length - i) - 1));
+              return updated;
+            }
+        i ++;
+      }
+    return listeners;
+  }
+  public @java.lang.SuppressWarnings("all") void addMouseWheelListener(final java.awt.event.MouseWheelListener l) {
+    if ((l == null))
+        return ;
+    while (true)      {
+        final Object[] current = $registeredMouseWheelListener.get();
+        final Object[] updated = $withListener(current, l);
+        if (((updated == current) || $registeredMouseWheelListener.compareAndSet(current, updated)))
+            return ;
+      }
+  }
+  public @java.lang.SuppressWarnings("all") void removeMouseWheelListener(final java.awt.event.MouseWheelListener l) {
+    if ((l == null))
+        return ;
+    while (true)      {
+        final Object[] current = $registeredMouseWheelListener.get();
+        final Object[] updated = $withoutListener(current, l);
+        if (((updated == current) || $registeredMouseWheelListener.compareAndSet(current, updated)))
+            return ;
+      }
+  }
+  protected @java.lang.SuppressWarnings("all") void fireMouseWheelMoved(final java.awt.event.MouseWheelEvent arg0) {
+    final Object[] $listeners = $registeredMouseWheelListener.get();
+    java.lang.RuntimeException $failure = null;
+    int $i = 0;
+    while (($i < $listeners.length))      {
+        final java.lang.Object $l = $listeners[$i];
+        final long $start = java.lang.System.nanoTime();
+        boolean $failed = false;
+        try 
+          {
+            (java.awt.event.MouseWheelListener) $l.mouseWheelMoved(arg0);
+          }
+        catch (final java.lang.RuntimeException $e)           {
+            $failed = true;
+            if (($failure == null))
+                $failure = $e;
+          }
+        $recordListenerCall($l, (java.lang.System.nanoTime() - $start), $failed);
+        $i ++;
+      }
+    if (($failure != null))
+        throw $failure;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+class ObservableAttributeAsync {
+  private volatile com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners;
+  private boolean $name$pending;
+  private boolean $dispatchScheduled;
+  public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeAsync, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeAsync, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final ObservableAttributeAsync instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final ObservableAttributeAsync instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<ObservableAttributeAsync> getParent() {
+      return ObservableAttributeAsync.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+    public @java.lang.Override com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeAsync object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+      if ((object.$name$listeners == null))
+          {
+            synchronized (object)
+              {
+                if ((object.$name$listeners == null))
+                    {
+                      object.$name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+                    }
+              }
+          }
+      return object.$name$listeners.addListener(valueChangeListener);
+    }
+  };
+  private java.util.concurrent.Executor executor;
+  private @lombok.ObservableAttribute(lazyListeners = true,asyncExecutor = "executor") String name;
+  <clinit>() {
+  }
+  ObservableAttributeAsync() {
+    super();
+  }
+  private @java.lang.SuppressWarnings("all") void $name$dispatchChange() {
+    synchronized (this)
+      {
+        if ((! this.$name$pending))
+            return ;
+        this.$name$pending = false;
+      }
+    final com.doctusoft.common.core.bean.internal.AttributeListeners<String> $listeners = this.$name$listeners;
+    if (($listeners != null))
+        $listeners.fireListeners(this.name);
+  }
+  private @java.lang.SuppressWarnings("all") void $scheduleDispatch(final java.util.concurrent.Executor executor) {
+    try 
+      {
+        executor.execute(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override void run() {
+    $dispatchChanges();
+  }
+});
+      }
+    catch (final java.util.concurrent.RejectedExecutionException $e)       {
+        synchronized (this)
+          {
+            this.$dispatchScheduled = false;
+          }
+        throw $e;
+      }
+  }
+  private @java.lang.SuppressWarnings("all") void $dispatchChanges() {
+    boolean $done = false;
+    try 
+      {
+        while ((! $done))          {
+            this.$name$dispatchChange();
+            synchronized (this)
+              {
+                if ((! this.$name$pending))
+                    {
+                      this.$dispatchScheduled = false;
+                      $done = true;
+                    }
+              }
+          }
+      }
+    finally
+      {
+        if ((! $done))
+            this.$scheduleDispatch(executor);
+      }
+  }
+  public @java.lang.SuppressWarnings("all") void setName(final String name) {
+    this.name = name;
+    if ((this.$name$listeners != null))
+        {
+          boolean $schedule;
+          synchronized (this)
+            {
+              this.$name$pending = true;
+              $schedule = (! this.$dispatchScheduled);
+              this.$dispatchScheduled = true;
+            }
+          if ($schedule)
+              this.$scheduleDispatch(executor);
+        }
+  }
+  public @java.lang.SuppressWarnings("all") String getName() {
+    return name;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+class ObservableAttributeBatch {
+  private com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+  private boolean $name$changed;
+  private int $changeDepth;
+  public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeBatch, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeBatch, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final ObservableAttributeBatch instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final ObservableAttributeBatch instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<ObservableAttributeBatch> getParent() {
+      return ObservableAttributeBatch.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+    public @java.lang.Override com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeBatch object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+      return object.$name$listeners.addListener(valueChangeListener);
+    }
+  };
+  private @lombok.ObservableAttribute(batchChanges = true) String name;
+  <clinit>() {
+  }
+  ObservableAttributeBatch() {
+    super();
+  }
+  private @java.lang.SuppressWarnings("all") void $name$flushChange() {
+    if (this.$name$changed)
+        {
+          this.$name$changed = false;
+          $name$listeners.fireListeners(this.name);
+        }
+  }
+  public @java.lang.SuppressWarnings("all") void beginChanges() {
+    this.$changeDepth = (this.$changeDepth + 1);
+  }
+  public @java.lang.SuppressWarnings("all") void commitChanges() {
+    if ((this.$changeDepth == 0))
+        return ;
+    this.$changeDepth = (this.$changeDepth - 1);
+    if ((this.$changeDepth > 0))
+        return ;
+    this.$flushChanges();
+  }
+  private @java.lang.SuppressWarnings("all") void $flushChanges() {
+    this.$name$flushChange();
+  }
+  public @java.lang.SuppressWarnings("all") void setName(final String name) {
+    this.name = name;
+    if ((this.$changeDepth > 0))
+        {
+          this.$name$changed = true;
+          return ;
+        }
+    $name$listeners.fireListeners(name);
+  }
+  public @java.lang.SuppressWarnings("all") String getName() {
+    return name;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+class ObservableAttributeChangeCheck {
+  private com.doctusoft.common.core.bean.internal.AttributeListeners<Double> $ratio$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<Double>();
+  public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, Double> _ratio = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, Double>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override Double getValue(final ObservableAttributeChangeCheck instance) {
+      return (double) instance.getRatio();
+    }
+    public @java.lang.Override void setValue(final ObservableAttributeChangeCheck instance, final Double value) {
+      instance.setRatio(value);
+    }
+    public @java.lang.Override Class<ObservableAttributeChangeCheck> getParent() {
+      return ObservableAttributeChangeCheck.class;
+    }
+    public @java.lang.Override String getName() {
+      return "ratio";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<Double> getType() {
+      return (java.lang.Class) Double.class;
+    }
+    public @java.lang.Override com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeChangeCheck object, final com.doctusoft.common.core.bean.ValueChangeListener<Double> valueChangeListener) {
+      return object.$ratio$listeners.addListener(valueChangeListener);
+    }
+  };
+  private com.doctusoft.common.core.bean.internal.AttributeListeners<String> $label$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+  public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, String> _label = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeChangeCheck, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final ObservableAttributeChangeCheck instance) {
+      return (String) instance.getLabel();
+    }
+    public @java.lang.Override void setValue(final ObservableAttributeChangeCheck instance, final String value) {
+      instance.setLabel(value);
+    }
+    public @java.lang.Override Class<ObservableAttributeChangeCheck> getParent() {
+      return ObservableAttributeChangeCheck.class;
+    }
+    public @java.lang.Override String getName() {
+      return "label";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+    public @java.lang.Override com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeChangeCheck object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+      return object.$label$listeners.addListener(valueChangeListener);
+    }
+  };
+  private @lombok.ObservableAttribute(changeCheck = lombok.ObservableAttribute.ChangeCheck.IDENTITY) double ratio;
+  private @lombok.ObservableAttribute(changeCheck = lombok.ObservableAttribute.ChangeCheck.EQUALS) String label;
+  <clinit>() {
+  }
+  ObservableAttributeChangeCheck() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") void setRatio(final double ratio) {
+    if ((java.lang.Double.doubleToLongBits(this.ratio) == java.lang.Double.doubleToLongBits(ratio)))
+        return ;
+    this.ratio = ratio;
+    $ratio$listeners.fireListeners(ratio);
+  }
+  public @java.lang.SuppressWarnings("all") double getRatio() {
+    return ratio;
+  }
+  public @java.lang.SuppressWarnings("all") void setLabel(final String label) {
+    if ((this.label == label))
+        return ;
+    final boolean $equal = ((this.label != null) && this.label.equals(label));
+    this.label = label;
+    if ($equal)
+        return ;
+    $label$listeners.fireListeners(label);
+  }
+  public @java.lang.SuppressWarnings("all") String getLabel() {
+    return label;
+  }
+}
\ No newline at end of file
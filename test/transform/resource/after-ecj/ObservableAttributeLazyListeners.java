@@ -0,0 +1,51 @@
+class ObservableAttributeLazyListeners {
+  private volatile com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners;
+  public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeLazyListeners, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeLazyListeners, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final ObservableAttributeLazyListeners instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final ObservableAttributeLazyListeners instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<ObservableAttributeLazyListeners> getParent() {
+      return ObservableAttributeLazyListeners.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+    public @java.lang.Override com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeLazyListeners object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+      if ((object.$name$listeners == null))
+          {
+            synchronized (object)
+              {
+                if ((object.$name$listeners == null))
+                    {
+                      object.$name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+                    }
+              }
+          }
+      return object.$name$listeners.addListener(valueChangeListener);
+    }
+  };
+  private @lombok.ObservableAttribute(lazyListeners = true) String name;
+  <clinit>() {
+  }
+  ObservableAttributeLazyListeners() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") void setName(final String name) {
+    this.name = name;
+    final com.doctusoft.common.core.bean.internal.AttributeListeners<String> $listeners = this.$name$listeners;
+    if (($listeners != null))
+        $listeners.fireListeners(name);
+  }
+  public @java.lang.SuppressWarnings("all") String getName() {
+    return name;
+  }
+}
\ No newline at end of file
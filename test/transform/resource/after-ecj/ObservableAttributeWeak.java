@@ -0,0 +1,66 @@
+class ObservableAttributeWeak {
+  private static final @java.lang.SuppressWarnings("all") class $WeakValueChangeListener<V> extends java.lang.ref.WeakReference<com.doctusoft.common.core.bean.ValueChangeListener<V>> implements com.doctusoft.common.core.bean.ValueChangeListener<V> {
+    private static final java.lang.ref.ReferenceQueue<Object> COLLECTED = new java.lang.ref.ReferenceQueue<Object>();
+    volatile com.doctusoft.common.core.bean.ListenerRegistration registration;
+    <clinit>() {
+    }
+    $WeakValueChangeListener(final com.doctusoft.common.core.bean.ValueChangeListener<V> listener) {
+      super(listener, COLLECTED);
+    }
+    public @java.lang.Override void valueChanged(final V newValue) {
+      final com.doctusoft.common.core.bean.ValueChangeListener<V> listener = get();
+      if ((listener != null))
+          listener.valueChanged(newValue);
+    }
+    static void purge() {
+      while (true)        {
+          final $WeakValueChangeListener<?> collected = ($WeakValueChangeListener<?>) COLLECTED.poll();
+          if ((collected == null))
+              return ;
+          final com.doctusoft.common.core.bean.ListenerRegistration registration = collected.registration;
+          if ((registration != null))
+              registration.removeListener();
+        }
+    }
+  }
+  private com.doctusoft.common.core.bean.internal.AttributeListeners<String> $name$listeners = new com.doctusoft.common.core.bean.internal.AttributeListeners<String>();
+  public static final com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeWeak, String> _name = new com.doctusoft.common.core.bean.ObservableAttribute<ObservableAttributeWeak, String>() {
+    x() {
+      super();
+    }
+    public @java.lang.Override String getValue(final ObservableAttributeWeak instance) {
+      return (String) instance.getName();
+    }
+    public @java.lang.Override void setValue(final ObservableAttributeWeak instance, final String value) {
+      instance.setName(value);
+    }
+    public @java.lang.Override Class<ObservableAttributeWeak> getParent() {
+      return ObservableAttributeWeak.class;
+    }
+    public @java.lang.Override String getName() {
+      return "name";
+    }
+    public @java.lang.Override @java.lang.SuppressWarnings("unchecked") Class<String> getType() {
+      return (java.lang.Class) String.class;
+    }
+    public @java.lang.Override com.doctusoft.common.core.bean.ListenerRegistration addChangeListener(final ObservableAttributeWeak object, final com.doctusoft.common.core.bean.ValueChangeListener<String> valueChangeListener) {
+      $WeakValueChangeListener.purge();
+      final $WeakValueChangeListener<String> $weak = new $WeakValueChangeListener<String>(valueChangeListener);
+      $weak.registration = object.$name$listeners.addListener($weak);
+      return $weak.registration;
+    }
+  };
+  private @lombok.ObservableAttribute(weakListeners = true) String name;
+  <clinit>() {
+  }
+  ObservableAttributeWeak() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") void setName(final String name) {
+    this.name = name;
+    $name$listeners.fireListeners(name);
+  }
+  public @java.lang.SuppressWarnings("all") String getName() {
+    return name;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+class AttributeInstance<T> {
+	@lombok.Attribute(staticField = false)
+	private T item;
+}
@@ -0,0 +1,26 @@
+class AttributePathPlain {
+	static class Order {
+		private Customer customer;
+		
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+	
+	static class Customer {
+		private String name;
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+	
+	@lombok.AttributePath(value = "customer.name", via = {Customer.class})
+	public static String getCustomerName(Order order) {
+		return null;
+	}
+}
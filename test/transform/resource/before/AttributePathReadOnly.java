@@ -0,0 +1,22 @@
+class AttributePathReadOnly {
+	static class Order {
+		private Customer customer;
+		
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+	
+	static class Customer {
+		private Boolean active;
+		
+		public Boolean getActive() {
+			return active;
+		}
+	}
+	
+	@lombok.AttributePath(value = "customer.active", via = {Customer.class}, readOnly = true)
+	public static Boolean getCustomerActive(Order order) {
+		return null;
+	}
+}
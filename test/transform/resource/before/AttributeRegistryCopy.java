@@ -0,0 +1,29 @@
+@lombok.AttributeRegistry
+class AttributeRegistryCopy {
+	@lombok.Attribute
+	private final long id;
+	
+	@lombok.Attribute
+	private String name;
+	
+	AttributeRegistryCopy(long id) {
+		super();
+		this.id = id;
+	}
+	
+	public long getId() {
+		return id;
+	}
+	
+	public void setId(long id) {
+		throw new UnsupportedOperationException();
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,24 @@
+@lombok.AttributeRegistry
+class AttributeRegistryPlain {
+	@lombok.Attribute
+	private String name;
+	
+	@lombok.Attribute
+	private int count;
+	
+	public String getName() {
+		return name;
+	}
+	
+	public void setName(String name) {
+		this.name = name;
+	}
+	
+	public int getCount() {
+		return count;
+	}
+	
+	public void setCount(int count) {
+		this.count = count;
+	}
+}
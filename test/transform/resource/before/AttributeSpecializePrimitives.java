@@ -0,0 +1,4 @@
+class AttributeSpecializePrimitives {
+	@lombok.Attribute(specializePrimitives = true)
+	private int count;
+}
@@ -0,0 +1,10 @@
+class AttributeTrackDirty {
+	@lombok.Attribute(trackDirty = true)
+	private String name;
+	
+	private boolean dirty;
+	
+	public boolean isDirty() {
+		return dirty;
+	}
+}
@@ -0,0 +1,7 @@
+import lombok.BoundSetter;
+
+@BoundSetter(coalesce = BoundSetter.Coalescing.PER_PROPERTY)
+class BoundSetterCoalescing {
+	private int count;
+	private String name;
+}
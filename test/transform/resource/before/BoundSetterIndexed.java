@@ -0,0 +1,9 @@
+import java.util.List;
+
+import lombok.BoundSetter;
+
+@BoundSetter(indexed = true)
+class BoundSetterIndexed {
+	private String[] names;
+	private List<Integer> values;
+}
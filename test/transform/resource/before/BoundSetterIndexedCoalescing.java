@@ -0,0 +1,12 @@
+import java.util.List;
+
+import lombok.BoundSetter;
+
+@BoundSetter(indexed = true, coalesce = BoundSetter.Coalescing.PER_PROPERTY)
+class BoundSetterIndexedCoalescing {
+	private List<Integer> values;
+	private PlayList playList;
+	
+	static class PlayList {
+	}
+}
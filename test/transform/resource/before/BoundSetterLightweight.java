@@ -0,0 +1,6 @@
+import lombok.BoundSetter;
+
+class BoundSetterLightweight {
+	@BoundSetter(dispatcher = BoundSetter.Dispatcher.LIGHTWEIGHT) int i;
+	@BoundSetter(dispatcher = BoundSetter.Dispatcher.LIGHTWEIGHT) String s;
+}
@@ -0,0 +1,11 @@
+class LazyGetterInvalidate {
+	@lombok.LazyGetter(invalidate = true, computedCheck = true)
+	private final int total = computeTotal();
+	
+	@lombok.LazyGetter(publication = lombok.LazyGetter.Publication.SYNCHRONIZED, invalidate = true, computedCheck = true)
+	private final String label = String.valueOf(computeTotal());
+	
+	private int computeTotal() {
+		return 42;
+	}
+}
@@ -0,0 +1,16 @@
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class LazyGetterInvalidateExpiring {
+	static class ValueType {
+	}
+	
+	private final Executor executor = Executors.newSingleThreadExecutor();
+	
+	@lombok.LazyGetter(expireAfter = 5, timeUnit = TimeUnit.SECONDS, invalidate = true, computedCheck = true)
+	private final ValueType expiring = new ValueType();
+	
+	@lombok.LazyGetter(expireAfter = 5, timeUnit = TimeUnit.SECONDS, refreshExecutor = "executor", invalidate = true, computedCheck = true)
+	private final ValueType refreshed = new ValueType();
+}
@@ -0,0 +1,10 @@
+class LazyGetterPublication {
+	static class ValueType {
+	}
+	
+	@lombok.LazyGetter(publication = lombok.LazyGetter.Publication.SYNCHRONIZED)
+	private final ValueType synchronizedValue = new ValueType();
+	
+	@lombok.LazyGetter(publication = lombok.LazyGetter.Publication.COMPARE_AND_SET)
+	private final ValueType casValue = new ValueType();
+}
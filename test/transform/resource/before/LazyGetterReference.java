@@ -0,0 +1,10 @@
+class LazyGetterReference {
+	static class ValueType {
+	}
+	
+	@lombok.LazyGetter(strength = lombok.LazyGetter.Strength.SOFT)
+	private final ValueType soft = new ValueType();
+	
+	@lombok.LazyGetter(strength = lombok.LazyGetter.Strength.WEAK)
+	private final ValueType weak = new ValueType();
+}
@@ -0,0 +1,9 @@
+import java.util.regex.Pattern;
+
+class LazyGetterStatic {
+	@lombok.LazyGetter(publication = lombok.LazyGetter.Publication.HOLDER)
+	private static final Pattern PATTERN = Pattern.compile("[a-z]+");
+	
+	@lombok.LazyGetter
+	private static final String name = String.valueOf(42);
+}
@@ -0,0 +1,14 @@
+class LazyGetterWarmUp {
+	@lombok.LazyGetter(warmUp = true)
+	private final int total = computeTotal();
+	
+	@lombok.LazyGetter(warmUp = true, publication = lombok.LazyGetter.Publication.SYNCHRONIZED)
+	private final String label = String.valueOf(computeTotal());
+	
+	@lombok.LazyGetter(warmUp = true)
+	private static final String name = String.valueOf(42);
+	
+	private int computeTotal() {
+		return 42;
+	}
+}
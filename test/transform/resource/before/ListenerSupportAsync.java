@@ -0,0 +1,4 @@
+@lombok.ListenerSupport(value = java.awt.event.MouseWheelListener.class, asyncExecutor = "executor", batchSize = 16)
+class ListenerSupportAsync {
+	private final java.util.concurrent.Executor executor = java.util.concurrent.Executors.newSingleThreadExecutor();
+}
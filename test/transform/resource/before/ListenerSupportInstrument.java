@@ -0,0 +1,3 @@
+@lombok.ListenerSupport(value = java.awt.event.MouseWheelListener.class, instrument = true)
+class ListenerSupportInstrument {
+}
@@ -0,0 +1,3 @@
+@lombok.ListenerSupport(value = java.awt.event.MouseWheelListener.class, weak = true)
+class ListenerSupportWeak {
+}
\ No newline at end of file
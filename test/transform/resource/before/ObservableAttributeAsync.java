@@ -0,0 +1,6 @@
+class ObservableAttributeAsync {
+	private java.util.concurrent.Executor executor;
+	
+	@lombok.ObservableAttribute(lazyListeners = true, asyncExecutor = "executor")
+	private String name;
+}
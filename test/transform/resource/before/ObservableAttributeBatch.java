@@ -0,0 +1,4 @@
+class ObservableAttributeBatch {
+	@lombok.ObservableAttribute(batchChanges = true)
+	private String name;
+}
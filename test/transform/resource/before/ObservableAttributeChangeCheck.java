@@ -0,0 +1,7 @@
+class ObservableAttributeChangeCheck {
+	@lombok.ObservableAttribute(changeCheck = lombok.ObservableAttribute.ChangeCheck.IDENTITY)
+	private double ratio;
+	
+	@lombok.ObservableAttribute(changeCheck = lombok.ObservableAttribute.ChangeCheck.EQUALS)
+	private String label;
+}
@@ -0,0 +1,4 @@
+class ObservableAttributeLazyListeners {
+	@lombok.ObservableAttribute(lazyListeners = true)
+	private String name;
+}
@@ -0,0 +1,4 @@
+class ObservableAttributeWeak {
+	@lombok.ObservableAttribute(weakListeners = true)
+	private String name;
+}